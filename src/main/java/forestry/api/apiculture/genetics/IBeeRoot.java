@@ -80,6 +80,7 @@ public interface IBeeRoot extends IForestrySpeciesRoot<IBee> {
 	/**
 	 * Combines multiple modifiers from an IBeeHousing into one.
 	 * Stays up to date with changes to the housing's modifiers.
+	 * The returned modifier may be shared with the beekeeping logic of the housing.
 	 */
 	IBeeModifier createBeeHousingModifier(IBeeHousing housing);
 
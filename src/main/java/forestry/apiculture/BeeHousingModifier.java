@@ -10,111 +10,215 @@
  ******************************************************************************/
 package forestry.apiculture;
 
+import com.google.common.collect.Iterables;
+
 import javax.annotation.Nullable;
 
+import net.minecraft.world.level.Level;
+
 import genetics.api.individual.IGenome;
 
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeModifier;
 
+/**
+ * Combines the modifiers of a bee housing into one.
+ * <p>
+ * The modifiers of the housing are looked up at most once per game tick. The combined values are kept until the
+ * genome they were requested for or the set of modifiers changes, for example when a frame gets swapped or an alveary
+ * part gets added or removed.
+ */
 public class BeeHousingModifier implements IBeeModifier {
+	private static final IBeeModifier[] NO_MODIFIERS = new IBeeModifier[0];
+
 	private final IBeeHousing beeHousing;
 
+	private IBeeModifier[] modifiers = NO_MODIFIERS;
+	private long modifiersTime = Long.MIN_VALUE;
+	private boolean sealed;
+	private boolean selfLighted;
+	private boolean sunlightSimulated;
+	private boolean hellish;
+
+	private final CachedValue territory = new CachedValue();
+	private final CachedValue mutation = new CachedValue();
+	private final CachedValue lifespan = new CachedValue();
+	private final CachedValue production = new CachedValue();
+	private final CachedValue flowering = new CachedValue();
+	private final CachedValue geneticDecay = new CachedValue();
+
 	public BeeHousingModifier(IBeeHousing beeHousing) {
 		this.beeHousing = beeHousing;
 	}
 
+	private void updateModifiers() {
+		Level world = beeHousing.getWorldObj();
+		if (world != null) {
+			long time = world.getGameTime();
+			if (modifiersTime == time) {
+				return;
+			}
+			modifiersTime = time;
+		}
+
+		int index = 0;
+		boolean changed = false;
+		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+			if (index >= modifiers.length || modifiers[index] != modifier) {
+				changed = true;
+				break;
+			}
+			index++;
+		}
+		if (!changed && index == modifiers.length) {
+			return;
+		}
+
+		modifiers = Iterables.toArray(beeHousing.getBeeModifiers(), IBeeModifier.class);
+		sealed = false;
+		selfLighted = false;
+		sunlightSimulated = false;
+		hellish = false;
+		for (IBeeModifier modifier : modifiers) {
+			sealed |= modifier.isSealed();
+			selfLighted |= modifier.isSelfLighted();
+			sunlightSimulated |= modifier.isSunlightSimulated();
+			hellish |= modifier.isHellish();
+		}
+		territory.invalidate();
+		mutation.invalidate();
+		lifespan.invalidate();
+		production.invalidate();
+		flowering.invalidate();
+		geneticDecay.invalidate();
+	}
+
 	@Override
 	public float getTerritoryModifier(IGenome genome, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getTerritoryModifier(genome, modifierValue * currentModifier);
+		updateModifiers();
+		if (!territory.matches(genome, null, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getTerritoryModifier(genome, modifierValue * currentModifier);
+			}
+			territory.set(genome, null, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return territory.value;
 	}
 
 	@Override
 	public float getMutationModifier(IGenome genome, IGenome mate, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getMutationModifier(genome, mate, modifierValue * currentModifier);
+		updateModifiers();
+		if (!mutation.matches(genome, mate, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getMutationModifier(genome, mate, modifierValue * currentModifier);
+			}
+			mutation.set(genome, mate, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return mutation.value;
 	}
 
 	@Override
 	public float getLifespanModifier(IGenome genome, @Nullable IGenome mate, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getLifespanModifier(genome, mate, modifierValue * currentModifier);
+		updateModifiers();
+		if (!lifespan.matches(genome, mate, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getLifespanModifier(genome, mate, modifierValue * currentModifier);
+			}
+			lifespan.set(genome, mate, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return lifespan.value;
 	}
 
 	@Override
 	public float getProductionModifier(IGenome genome, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getProductionModifier(genome, modifierValue * currentModifier);
+		updateModifiers();
+		if (!production.matches(genome, null, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getProductionModifier(genome, modifierValue * currentModifier);
+			}
+			production.set(genome, null, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return production.value;
 	}
 
 	@Override
 	public float getFloweringModifier(IGenome genome, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getFloweringModifier(genome, modifierValue * currentModifier);
+		updateModifiers();
+		if (!flowering.matches(genome, null, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getFloweringModifier(genome, modifierValue * currentModifier);
+			}
+			flowering.set(genome, null, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return flowering.value;
 	}
 
 	@Override
 	public float getGeneticDecay(IGenome genome, final float currentModifier) {
-		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			modifierValue *= modifier.getGeneticDecay(genome, modifierValue * currentModifier);
+		updateModifiers();
+		if (!geneticDecay.matches(genome, null, currentModifier)) {
+			float modifierValue = 1.0f;
+			for (IBeeModifier modifier : modifiers) {
+				modifierValue *= modifier.getGeneticDecay(genome, modifierValue * currentModifier);
+			}
+			geneticDecay.set(genome, null, currentModifier, modifierValue);
 		}
-		return modifierValue;
+		return geneticDecay.value;
 	}
 
 	@Override
 	public boolean isSealed() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSealed()) {
-				return true;
-			}
-		}
-		return false;
+		updateModifiers();
+		return sealed;
 	}
 
 	@Override
 	public boolean isSelfLighted() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSelfLighted()) {
-				return true;
-			}
-		}
-		return false;
+		updateModifiers();
+		return selfLighted;
 	}
 
 	@Override
 	public boolean isSunlightSimulated() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSunlightSimulated()) {
-				return true;
-			}
-		}
-		return false;
+		updateModifiers();
+		return sunlightSimulated;
 	}
 
 	@Override
 	public boolean isHellish() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isHellish()) {
-				return true;
-			}
+		updateModifiers();
+		return hellish;
+	}
+
+	/**
+	 * The last combined value of a modifier and the arguments it was combined for.
+	 */
+	private static class CachedValue {
+		@Nullable
+		private IGenome genome;
+		@Nullable
+		private IGenome mate;
+		private float currentModifier;
+		private float value;
+
+		private boolean matches(IGenome genome, @Nullable IGenome mate, float currentModifier) {
+			return this.genome == genome && this.mate == mate && this.currentModifier == currentModifier;
+		}
+
+		private void set(IGenome genome, @Nullable IGenome mate, float currentModifier, float value) {
+			this.genome = genome;
+			this.mate = mate;
+			this.currentModifier = currentModifier;
+			this.value = value;
+		}
+
+		private void invalidate() {
+			this.genome = null;
 		}
-		return false;
 	}
 }
@@ -94,6 +94,13 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 		this.beeListener = BeeManager.beeRoot.createBeeHousingListener(housing);
 	}
 
+	/**
+	 * @return The combined modifier of the housing, shared by everything that needs the modifiers of the housing.
+	 */
+	public IBeeModifier getBeeModifier() {
+		return beeModifier;
+	}
+
 	// / SAVING & LOADING
 	@Override
 	public void read(CompoundTag compoundNBT) {
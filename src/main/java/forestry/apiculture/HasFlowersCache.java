@@ -13,7 +13,6 @@ package forestry.apiculture;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import net.minecraft.world.level.block.state.BlockState;
@@ -22,8 +21,8 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
-import forestry.api.apiculture.FlowerManager;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.genetics.BeeChromosomes;
 import forestry.api.apiculture.genetics.IBee;
@@ -31,13 +30,20 @@ import forestry.api.core.IBlockPosPredicate;
 import forestry.api.core.INbtReadable;
 import forestry.api.core.INbtWritable;
 import forestry.api.genetics.flowers.IFlowerProvider;
+import forestry.apiculture.flowers.FlowerPositionIndex;
+import forestry.apiculture.flowers.FlowerRegistry;
 import forestry.core.utils.TickHelper;
 
 import genetics.api.individual.IGenome;
 
+/**
+ * Holds the flowers in the territory of a bee housing. The flowers are looked up in the {@link FlowerPositionIndex}
+ * of the world, which is shared by all housings and continues its scan of the territory on every update.
+ */
 public class HasFlowersCache implements INbtWritable, INbtReadable {
 	private static final String NBT_KEY = "hasFlowerCache";
 	private static final String NBT_KEY_FLOWERS = "flowers";
+	private static final int SCAN_BLOCKS_PER_UPDATE = 256;
 	private int flowerCheckInterval;
 
 	private final TickHelper tickHelper = new TickHelper();
@@ -60,19 +66,27 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 	private static class FlowerData {
 		public final String flowerType;
 		public final Vec3i territory;
-		public final IBlockPosPredicate flowerPredicate;
-		public Iterator<BlockPos.MutableBlockPos> areaIterator;
+		public BoundingBox area;
+		public final FlowerPositionIndex.FlowerTypeIndex flowerIndex;
+		public int indexModCount = -1;
 
 		public FlowerData(IBee queen, IBeeHousing beeHousing) {
 			IFlowerProvider flowerProvider = queen.getGenome().getActiveAllele(BeeChromosomes.FLOWER_PROVIDER).getProvider();
 			this.flowerType = flowerProvider.getFlowerType();
 			this.territory = queen.getGenome().getActiveValue(BeeChromosomes.TERRITORY);
-			this.flowerPredicate = FlowerManager.flowerRegistry.createAcceptedFlowerPredicate(flowerType);
-			this.areaIterator = FlowerManager.flowerRegistry.getAreaIterator(beeHousing, queen);
+			this.area = FlowerRegistry.getAreaBox(beeHousing, queen);
+			this.flowerIndex = FlowerPositionIndex.get(beeHousing.getWorldObj(), flowerType);
 		}
 
-		public void resetIterator(IBee queen, IBeeHousing beeHousing) {
-			this.areaIterator = FlowerManager.flowerRegistry.getAreaIterator(beeHousing, queen);
+		/**
+		 * Recomputes the area, so changes of the territory modifiers of the housing get applied.
+		 */
+		public void updateArea(IBee queen, IBeeHousing beeHousing) {
+			BoundingBox area = FlowerRegistry.getAreaBox(beeHousing, queen);
+			if (!area.equals(this.area)) {
+				this.area = area;
+				this.indexModCount = -1;
+			}
 		}
 	}
 
@@ -85,30 +99,36 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 		Level world = beeHousing.getWorldObj();
 		tickHelper.onTick();
 
-		if (!flowerCoords.isEmpty() && tickHelper.updateOnInterval(flowerCheckInterval)) {
-			Iterator<BlockPos> iterator = flowerCoords.iterator();
-			while (iterator.hasNext()) {
-				BlockPos flowerPos = iterator.next();
-				if (!flowerData.flowerPredicate.test(world, flowerPos) && world.hasChunkAt(flowerPos)) {
-					iterator.remove();
-					flowers.clear();
-					needsSync = true;
+		if (tickHelper.updateOnInterval(flowerCheckInterval)) {
+			flowerData.updateArea(queen, beeHousing);
+			IBlockPosPredicate flowerPredicate = flowerData.flowerIndex.getFlowerPredicate();
+			for (BlockPos flowerPos : flowerCoords) {
+				if (!flowerPredicate.test(world, flowerPos) && world.hasChunkAt(flowerPos)) {
+					flowerData.flowerIndex.removeFlower(flowerPos);
 				}
 			}
 		}
 
-		final int flowerCount = flowerCoords.size();
-		final int ticksPerCheck = 1 + (flowerCount * flowerCount);
+		flowerData.flowerIndex.scan(world, flowerData.area, SCAN_BLOCKS_PER_UPDATE);
+		updateFlowerCoords();
+	}
 
-		if (tickHelper.updateOnInterval(ticksPerCheck)) {
-			if (flowerData.areaIterator.hasNext()) {
-				BlockPos.MutableBlockPos blockPos = flowerData.areaIterator.next();
-				if (flowerData.flowerPredicate.test(world, blockPos)) {
-					addFlowerPos(blockPos.immutable());
-				}
-			} else {
-				flowerData.resetIterator(queen, beeHousing);
-			}
+	/**
+	 * Reloads the flowers from the index if it has changed since the last lookup.
+	 */
+	private void updateFlowerCoords() {
+		if (flowerData == null || flowerData.indexModCount == flowerData.flowerIndex.getModCount()) {
+			return;
+		}
+		flowerData.indexModCount = flowerData.flowerIndex.getModCount();
+
+		List<BlockPos> indexedCoords = new ArrayList<>();
+		flowerData.flowerIndex.getFlowers(flowerData.area, indexedCoords);
+		if (!indexedCoords.equals(flowerCoords)) {
+			flowerCoords.clear();
+			flowerCoords.addAll(indexedCoords);
+			flowers.clear();
+			needsSync = true;
 		}
 	}
 
@@ -131,6 +151,7 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 				flowerData = new FlowerData(queen, housing);
 				flowerCoords.clear();
 				flowers.clear();
+				needsSync = true;
 			}
 		}
 	}
@@ -150,23 +171,22 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 	}
 
 	public void addFlowerPos(BlockPos blockPos) {
-		flowerCoords.add(blockPos);
-		flowers.clear();
-		needsSync = true;
+		if (flowerData != null) {
+			flowerData.flowerIndex.addFlower(blockPos);
+			updateFlowerCoords();
+		} else {
+			flowerCoords.add(blockPos);
+			flowers.clear();
+			needsSync = true;
+		}
 	}
 
 	public void forceLookForFlowers(IBee queen, IBeeHousing housing) {
 		if (flowerData != null) {
-			flowerCoords.clear();
-			flowers.clear();
-			flowerData.resetIterator(queen, housing);
-			Level world = housing.getWorldObj();
-			while (flowerData.areaIterator.hasNext()) {
-				BlockPos.MutableBlockPos blockPos = flowerData.areaIterator.next();
-				if (flowerData.flowerPredicate.test(world, blockPos)) {
-					addFlowerPos(blockPos.immutable());
-				}
-			}
+			flowerData.updateArea(queen, housing);
+			flowerData.flowerIndex.scan(housing.getWorldObj(), flowerData.area, Integer.MAX_VALUE);
+			flowerData.indexModCount = -1;
+			updateFlowerCoords();
 		}
 	}
 
@@ -90,9 +90,16 @@ public class WorldgenBeekeepingLogic implements IBeekeepingLogic {
 
 	@Override
 	public boolean canWork() {
-		tickHelper.onTick();
+		return canWork(1);
+	}
+
+	/**
+	 * Same as {@link #canWork()}, but catches up on the given amount of ticks at once.
+	 */
+	public boolean canWork(int ticks) {
+		tickHelper.onTicks(ticks);
 
-		if (tickHelper.updateOnInterval(200)) {
+		if (tickHelper.updateOnInterval(200, ticks)) {
 			IBee queen = housing.getContainedBee();
 			hasFlowersCache.update(queen, housing);
 			Level world = housing.getWorldObj();
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.api.apiculture.FlowerManager;
+import forestry.api.core.IBlockPosPredicate;
+import forestry.core.config.Constants;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Keeps the positions of the accepted flowers of every flower type per world, so bee housings with overlapping
+ * territories share one scan of their area.
+ * <p>
+ * Chunk sections are scanned on demand, a few blocks per {@link FlowerTypeIndex#scan} call. After a section has been
+ * scanned, it is kept up to date by the block updates of the world and dropped when its chunk unloads.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID)
+public class FlowerPositionIndex {
+	private static final int SECTION_SIZE = 16 * 16 * 16;
+	private static final Map<LevelAccessor, FlowerPositionIndex> indices = new HashMap<>();
+
+	private final Map<String, FlowerTypeIndex> flowerTypes = new HashMap<>();
+
+	private FlowerPositionIndex() {
+	}
+
+	public static FlowerTypeIndex get(Level world, String flowerType) {
+		return indices.computeIfAbsent(world, k -> new FlowerPositionIndex()).flowerTypes
+				.computeIfAbsent(flowerType, FlowerTypeIndex::new);
+	}
+
+	@SubscribeEvent
+	public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+		FlowerPositionIndex index = indices.get(event.getWorld());
+		if (index != null && event.getWorld() instanceof Level world) {
+			BlockPos pos = event.getPos();
+			for (FlowerTypeIndex flowerTypeIndex : index.flowerTypes.values()) {
+				flowerTypeIndex.onBlockChange(world, pos);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onChunkUnload(ChunkEvent.Unload event) {
+		LevelAccessor world = event.getWorld();
+		FlowerPositionIndex index = indices.get(world);
+		if (index != null) {
+			ChunkPos chunkPos = event.getChunk().getPos();
+			for (FlowerTypeIndex flowerTypeIndex : index.flowerTypes.values()) {
+				for (int sectionY = world.getMinSection(); sectionY < world.getMaxSection(); sectionY++) {
+					flowerTypeIndex.removeSection(SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z));
+				}
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		indices.remove(event.getWorld());
+	}
+
+	public static class FlowerTypeIndex {
+		private final IBlockPosPredicate flowerPredicate;
+		// chunk section > flower positions
+		private final Long2ObjectMap<LongSet> flowers = new Long2ObjectOpenHashMap<>();
+		// chunk section > index of the next block to scan, SECTION_SIZE once the section is complete
+		private final Long2IntMap scanCursors = new Long2IntOpenHashMap();
+		private final BlockPos.MutableBlockPos scanPos = new BlockPos.MutableBlockPos();
+		private int modCount;
+
+		private FlowerTypeIndex(String flowerType) {
+			this.flowerPredicate = FlowerManager.flowerRegistry.createAcceptedFlowerPredicate(flowerType);
+		}
+
+		public IBlockPosPredicate getFlowerPredicate() {
+			return flowerPredicate;
+		}
+
+		/**
+		 * Incremented whenever a flower gets added or removed.
+		 */
+		public int getModCount() {
+			return modCount;
+		}
+
+		/**
+		 * Continues the scan of the loaded chunk sections that intersect the given area.
+		 *
+		 * @param budget The maximum amount of blocks to test.
+		 * @return true if all loaded sections of the area have been scanned.
+		 */
+		public boolean scan(Level world, BoundingBox area, int budget) {
+			int minSectionY = Math.max(SectionPos.blockToSectionCoord(area.minY()), world.getMinSection());
+			int maxSectionY = Math.min(SectionPos.blockToSectionCoord(area.maxY()), world.getMaxSection() - 1);
+			for (int sectionX = SectionPos.blockToSectionCoord(area.minX()); sectionX <= SectionPos.blockToSectionCoord(area.maxX()); sectionX++) {
+				for (int sectionZ = SectionPos.blockToSectionCoord(area.minZ()); sectionZ <= SectionPos.blockToSectionCoord(area.maxZ()); sectionZ++) {
+					LevelChunk chunk = world.getChunkSource().getChunkNow(sectionX, sectionZ);
+					if (chunk == null) {
+						continue;
+					}
+					for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+						long sectionKey = SectionPos.asLong(sectionX, sectionY, sectionZ);
+						int cursor = scanCursors.get(sectionKey);
+						if (cursor >= SECTION_SIZE) {
+							continue;
+						}
+						if (budget <= 0) {
+							return false;
+						}
+
+						LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+						if (section.hasOnlyAir()) {
+							cursor = SECTION_SIZE;
+						} else {
+							int originX = SectionPos.sectionToBlockCoord(sectionX);
+							int originY = SectionPos.sectionToBlockCoord(sectionY);
+							int originZ = SectionPos.sectionToBlockCoord(sectionZ);
+							for (; cursor < SECTION_SIZE && budget > 0; cursor++, budget--) {
+								scanPos.set(originX + (cursor & 15), originY + (cursor >> 8), originZ + ((cursor >> 4) & 15));
+								if (flowerPredicate.test(world, scanPos)) {
+									add(sectionKey, scanPos.asLong());
+								}
+							}
+						}
+						scanCursors.put(sectionKey, cursor);
+					}
+				}
+			}
+			return budget > 0;
+		}
+
+		/**
+		 * Adds all known flowers inside the given area to the list, ordered by their position.
+		 */
+		public void getFlowers(BoundingBox area, List<BlockPos> flowerCoords) {
+			for (int sectionX = SectionPos.blockToSectionCoord(area.minX()); sectionX <= SectionPos.blockToSectionCoord(area.maxX()); sectionX++) {
+				for (int sectionY = SectionPos.blockToSectionCoord(area.minY()); sectionY <= SectionPos.blockToSectionCoord(area.maxY()); sectionY++) {
+					for (int sectionZ = SectionPos.blockToSectionCoord(area.minZ()); sectionZ <= SectionPos.blockToSectionCoord(area.maxZ()); sectionZ++) {
+						LongSet positions = flowers.get(SectionPos.asLong(sectionX, sectionY, sectionZ));
+						if (positions == null) {
+							continue;
+						}
+						LongIterator iterator = positions.iterator();
+						while (iterator.hasNext()) {
+							long pos = iterator.nextLong();
+							int x = BlockPos.getX(pos);
+							int y = BlockPos.getY(pos);
+							int z = BlockPos.getZ(pos);
+							if (x >= area.minX() && x <= area.maxX() && y >= area.minY() && y <= area.maxY() && z >= area.minZ() && z <= area.maxZ()) {
+								flowerCoords.add(new BlockPos(x, y, z));
+							}
+						}
+					}
+				}
+			}
+			flowerCoords.sort(null);
+		}
+
+		public void addFlower(BlockPos pos) {
+			add(SectionPos.asLong(pos), pos.asLong());
+		}
+
+		public void removeFlower(BlockPos pos) {
+			long sectionKey = SectionPos.asLong(pos);
+			LongSet positions = flowers.get(sectionKey);
+			if (positions != null && positions.remove(pos.asLong())) {
+				if (positions.isEmpty()) {
+					flowers.remove(sectionKey);
+				}
+				modCount++;
+			}
+		}
+
+		private void add(long sectionKey, long pos) {
+			if (flowers.computeIfAbsent(sectionKey, k -> new LongOpenHashSet()).add(pos)) {
+				modCount++;
+			}
+		}
+
+		private void onBlockChange(Level world, BlockPos pos) {
+			long sectionKey = SectionPos.asLong(pos);
+			if (!scanCursors.containsKey(sectionKey) && !flowers.containsKey(sectionKey)) {
+				return;
+			}
+			if (flowerPredicate.test(world, pos)) {
+				add(sectionKey, pos.asLong());
+			} else {
+				removeFlower(pos);
+			}
+		}
+
+		private void removeSection(long sectionKey) {
+			scanCursors.remove(sectionKey);
+			if (flowers.remove(sectionKey) != null) {
+				modCount++;
+			}
+		}
+	}
+}
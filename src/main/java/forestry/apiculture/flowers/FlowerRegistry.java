@@ -37,6 +37,7 @@ import net.minecraft.tags.Tag;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.server.level.ServerLevel;
 
 import forestry.api.apiculture.BeeManager;
@@ -170,6 +171,16 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		return VectUtil.getAllInBoxFromCenterMutable(world, minPos, beeHousing.getCoordinates(), maxPos);
 	}
 
+	/**
+	 * @return The area that {@link #getAreaIterator(IBeeHousing, IBee)} iterates over.
+	 */
+	public static BoundingBox getAreaBox(IBeeHousing beeHousing, IBee bee) {
+		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(beeHousing);
+		Vec3i area = getArea(bee.getGenome(), beeModifier);
+		BlockPos minPos = beeHousing.getCoordinates().offset(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
+		return BoundingBox.fromCorners(minPos, minPos.offset(area));
+	}
+
 	private Set<BlockState> getAcceptedBlockStates(String flowerType) {
 		return this.acceptableBlockStates.computeIfAbsent(flowerType, k -> new BlockStateSet());
 	}
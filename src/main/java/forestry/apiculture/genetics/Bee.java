@@ -559,7 +559,7 @@ public class Bee extends IndividualLiving implements IBee {
 		}
 
 		IBeekeepingMode mode = BeeManager.beeRoot.getBeekeepingMode(world);
-		return new Bee(new Genome(BeeManager.beeRoot.getKaryotype(), chromosomes), null, mode.isNaturalOffspring(this), generation);
+		return new Bee(Genome.create(BeeManager.beeRoot.getKaryotype(), chromosomes), null, mode.isNaturalOffspring(this), generation);
 	}
 
 	@Nullable
@@ -240,6 +240,10 @@ public class BeeRoot extends IndividualRoot<IBee> implements IBeeRoot, IBreeding
 
 	@Override
 	public IBeeModifier createBeeHousingModifier(IBeeHousing housing) {
+		// Reuse the modifier of the housing, so its combined values are kept between the calls
+		if (housing.getBeekeepingLogic() instanceof BeekeepingLogic beekeepingLogic) {
+			return beekeepingLogic.getBeeModifier();
+		}
 		return new BeeHousingModifier(housing);
 	}
 
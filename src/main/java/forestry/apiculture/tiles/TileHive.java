@@ -78,6 +78,7 @@ import genetics.api.individual.IGenome;
 
 public class TileHive extends BlockEntity implements IHiveTile, IActivatable, IBeeHousing {
 	private static final DamageSource damageSourceBeeHive = new DamageSourceForestry("bee.hive");
+	private static final int IDLE_TICK_INTERVAL = 20;
 
 	private final InventoryAdapter contained = new InventoryAdapter(2, "Contained");
 	private final HiveBeeHousingInventory inventory;
@@ -91,6 +92,8 @@ public class TileHive extends BlockEntity implements IHiveTile, IActivatable, IB
 	private boolean active = false;
 	private boolean angry = false;
 	private int calmTime;
+	private int skippedTicks;
+	private boolean playerInTerritory;
 
 	public TileHive(BlockPos pos, BlockState state) {
 		super(ApicultureTiles.HIVE.tileType(), pos, state);
@@ -104,18 +107,31 @@ public class TileHive extends BlockEntity implements IHiveTile, IActivatable, IB
 		if (Config.generateBeehivesDebug) {
 			return;
 		}
-		tickHelper.onTick();
 
 		if (level.isClientSide) {
+			tickHelper.onTick();
 			if (active && tickHelper.updateOnInterval(4)) {
 				if (beeLogic.canDoBeeFX()) {
 					beeLogic.doBeeFX();
 				}
 			}
 		} else {
-			boolean canWork = beeLogic.canWork(); // must be called every tick to stay updated
+			// Hives without players in their territory only catch up on their ticks every IDLE_TICK_INTERVAL ticks
+			skippedTicks++;
+			if (skippedTicks < IDLE_TICK_INTERVAL && !angry && calmTime == 0 && !playerInTerritory) {
+				return;
+			}
+			int ticks = skippedTicks;
+			skippedTicks = 0;
+			tickHelper.onTicks(ticks);
+
+			if (tickHelper.updateOnInterval(IDLE_TICK_INTERVAL, ticks)) {
+				playerInTerritory = isPlayerInTerritory();
+			}
+
+			boolean canWork = beeLogic.canWork(ticks); // must be called on every update to stay updated
 
-			if (tickHelper.updateOnInterval(angry ? 10 : 200)) {
+			if (tickHelper.updateOnInterval(angry ? 10 : 200, ticks)) {
 				if (calmTime == 0) {
 					if (canWork) {
 						if (angry && ModuleApiculture.hiveDamageOnAttack && (level.getLevelData().getDifficulty() != Difficulty.PEACEFUL || ModuleApiculture.hivesDamageOnPeaceful)) {
@@ -140,6 +156,16 @@ public class TileHive extends BlockEntity implements IHiveTile, IActivatable, IB
 		}
 	}
 
+	private boolean isPlayerInTerritory() {
+		AABB territory = AlleleEffect.getBounding(getContainedBee().getGenome(), this);
+		for (Player player : level.players()) {
+			if (!player.isSpectator() && territory.contains(player.position())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public IBee getContainedBee() {
 		if (this.containedBee == null) {
 			IGenome beeGenome = null;
@@ -275,7 +275,7 @@ public class Tree extends Individual implements ITree, IPlantable {
 
 		if (world.random.nextFloat() <= chance) {
 			if (mate == null) {
-				prod.add(TreeManager.treeRoot.getTree(world, new Genome(TreeManager.treeRoot.getKaryotype(), genome.getChromosomes())));
+				prod.add(TreeManager.treeRoot.getTree(world, Genome.create(TreeManager.treeRoot.getKaryotype(), genome.getChromosomes())));
 			} else {
 				prod.add(createOffspring(world, mate, playerProfile, pos));
 			}
@@ -297,7 +297,7 @@ public class Tree extends Individual implements ITree, IPlantable {
 		}
 
 		if (mutated != null) {
-			return new Tree(new Genome(TreeManager.treeRoot.getKaryotype(), mutated));
+			return new Tree(Genome.create(TreeManager.treeRoot.getKaryotype(), mutated));
 		}
 
 		for (int i = 0; i < parent1.length; i++) {
@@ -306,7 +306,7 @@ public class Tree extends Individual implements ITree, IPlantable {
 			}
 		}
 
-		return new Tree(new Genome(TreeManager.treeRoot.getKaryotype(), chromosomes));
+		return new Tree(Genome.create(TreeManager.treeRoot.getKaryotype(), chromosomes));
 	}
 
 	@Nullable
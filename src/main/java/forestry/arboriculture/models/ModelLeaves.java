@@ -11,6 +11,7 @@
 package forestry.arboriculture.models;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Objects;
 
 import net.minecraft.core.BlockPos;
@@ -23,6 +24,9 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.client.model.data.IModelData;
 
+import forestry.api.arboriculture.ILeafSpriteProvider;
+import forestry.api.arboriculture.genetics.ITree;
+import forestry.api.arboriculture.genetics.TreeChromosomes;
 import forestry.arboriculture.blocks.BlockAbstractLeaves;
 import forestry.arboriculture.blocks.BlockForestryLeaves;
 import forestry.arboriculture.features.ArboricultureBlocks;
@@ -33,6 +37,8 @@ import forestry.core.models.baker.ModelBaker;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.ResourceUtil;
 
+import genetics.api.individual.IGenome;
+
 @OnlyIn(Dist.CLIENT)
 public class ModelLeaves extends ModelBlockCached<BlockForestryLeaves, ModelLeaves.Key> {
 	public static class Key {
@@ -91,6 +97,29 @@ public class ModelLeaves extends ModelBlockCached<BlockForestryLeaves, ModelLeav
 			fancy);
 	}
 
+	/**
+	 * Warms up the unpollinated and pollinated leaves of every tree template, with and without the decorative sprite
+	 * of its fruit.
+	 */
+	@Override
+	protected void addWarmUpModels(Map<Key, BlockState> models) {
+		BlockState state = ArboricultureBlocks.LEAVES.defaultState();
+		boolean fancy = Proxies.render.fancyGraphicsEnabled();
+		for (ITree tree : TreeHelper.getRoot().getIndividualTemplates()) {
+			IGenome genome = tree.getGenome();
+			ILeafSpriteProvider leafSpriteProvider = genome.getActiveAllele(TreeChromosomes.SPECIES).getLeafSpriteProvider();
+			ResourceLocation fruitLocation = genome.getActiveAllele(TreeChromosomes.FRUITS).getProvider().getDecorativeSprite();
+			TextureAtlasSprite fruitSprite = fruitLocation != null ? ResourceUtil.getBlockSprite(fruitLocation) : null;
+			for (boolean pollinated : new boolean[]{false, true}) {
+				TextureAtlasSprite leafSprite = ResourceUtil.getBlockSprite(leafSpriteProvider.getSprite(pollinated, fancy));
+				models.put(new Key(leafSprite, null, fancy), state);
+				if (fruitSprite != null) {
+					models.put(new Key(leafSprite, fruitSprite, fancy), state);
+				}
+			}
+		}
+	}
+
 	@Override
 	protected void bakeBlock(BlockForestryLeaves block, IModelData extraData, Key key, ModelBaker baker, boolean inventory) {
 		// Render the plain leaf block.
@@ -58,7 +58,7 @@ import forestry.arboriculture.genetics.TreeDefinition;
 import forestry.arboriculture.network.IRipeningPacketReceiver;
 import forestry.arboriculture.network.PacketRipeningUpdate;
 import forestry.core.network.PacketBufferForestry;
-import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.TileStreamScheduler;
 import forestry.core.utils.ColourUtil;
 import forestry.core.utils.GeneticsUtil;
 import forestry.core.utils.NetworkUtil;
@@ -67,7 +67,6 @@ import forestry.core.utils.RenderUtil;
 import genetics.api.alleles.IAllele;
 import genetics.api.individual.IGenome;
 import genetics.api.individual.IIndividual;
-import genetics.utils.AlleleUtils;
 
 public class TileLeaves extends TileTreeContainer implements IPollinatable, IFruitBearer, IButterflyNursery, IRipeningPacketReceiver {
 	private static final String NBT_RIPENING = "RT";
@@ -190,13 +189,24 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		ITree oldTree = getTree();
 		super.setTree(tree);
 
-		IGenome genome = tree.getGenome();
-		species = genome.getActiveAllele(TreeChromosomes.SPECIES);
-
 		if (oldTree != null && !tree.equals(oldTree)) {
 			checkFruit = true;
 		}
 
+		updateTreeState(tree);
+
+		setChanged();
+	}
+
+	@Override
+	protected void onTreeLoaded(ITree tree) {
+		updateTreeState(tree);
+	}
+
+	private void updateTreeState(ITree tree) {
+		IGenome genome = tree.getGenome();
+		species = genome.getActiveAllele(TreeChromosomes.SPECIES);
+
 		if (tree.canBearFruit() && checkFruit && level != null && !level.isClientSide) {
 			IFruitProvider fruitProvider = genome.getActiveAllele(TreeChromosomes.FRUITS).getProvider();
 			if (fruitProvider.isFruitLeaf(genome, level, getBlockPos())) {
@@ -215,8 +225,6 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 			fruitSprite = null;
 		}
 		requestModelDataUpdate();
-
-		setChanged();
 	}
 
 	/* INFORMATION */
@@ -363,7 +371,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	/* NETWORK */
 	private void sendNetworkUpdate() {
-		NetworkUtil.sendNetworkPacket(new PacketTileStream(this), worldPosition, level);
+		TileStreamScheduler.markDirty(this);
 	}
 
 	private void sendNetworkUpdateRipening() {
@@ -401,10 +409,10 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		data.writeByte(leafState);
 
 		if (hasFruit) {
-			String fruitAlleleUID = getTree().getGenome().getActiveAllele(TreeChromosomes.FRUITS).getRegistryName().toString();
+			IAlleleFruit fruitAllele = getTree().getGenome().getActiveAllele(TreeChromosomes.FRUITS);
 			int colourFruits = getFruitColour();
 
-			data.writeUtf(fruitAlleleUID);
+			writeAllele(data, fruitAllele);
 			data.writeInt(colourFruits);
 		}
 	}
@@ -412,29 +420,20 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 	@Override
 	public void readData(PacketBufferForestry data) {
 
-		String speciesUID = data.readUtf(); // this is called instead of super.readData, be careful!
+		IAllele species = readAllele(data); // this is called instead of super.readData, be careful!
 
 		byte leafState = data.readByte();
 		isFruitLeaf = (leafState & hasFruitFlag) > 0;
 		isPollinatedState = (leafState & isPollinatedFlag) > 0;
-		String fruitAlleleUID = null;
+		IAllele fruitAllele = null;
 
 		if (isFruitLeaf) {
-			fruitAlleleUID = data.readUtf();
+			fruitAllele = readAllele(data);
 			colourFruits = data.readInt();
 		}
 
-		IAllele[] treeTemplate = TreeManager.treeRoot.getTemplates().getTemplate(speciesUID);
-		if (treeTemplate != null) {
-			if (fruitAlleleUID != null) {
-				AlleleUtils.actOn(new ResourceLocation(fruitAlleleUID), IAlleleFruit.class, fruitAllele -> treeTemplate[TreeChromosomes.FRUITS.getIndex()] = fruitAllele);
-			}
-
-			ITree tree = TreeManager.treeRoot.templateAsIndividual(treeTemplate);
-			if (isPollinatedState) {
-				tree.mate(tree.getGenome());
-			}
-
+		ITree tree = species != null ? getTemplateTree(species, fruitAllele, isPollinatedState) : null;
+		if (tree != null) {
 			setTree(tree);
 
 			RenderUtil.markForUpdate(worldPosition);
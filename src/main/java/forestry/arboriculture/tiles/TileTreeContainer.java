@@ -10,13 +10,14 @@
  ******************************************************************************/
 package forestry.arboriculture.tiles;
 
-import com.google.common.base.Preconditions;
-
 import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -28,7 +29,9 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import forestry.api.arboriculture.TreeManager;
+import forestry.api.arboriculture.genetics.IAlleleFruit;
 import forestry.api.arboriculture.genetics.ITree;
+import forestry.api.arboriculture.genetics.TreeChromosomes;
 import forestry.arboriculture.genetics.Tree;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
@@ -39,6 +42,8 @@ import forestry.core.utils.NBTUtilForestry;
 import forestry.core.utils.RenderUtil;
 
 import genetics.api.alleles.IAllele;
+import genetics.api.individual.IGenome;
+import genetics.utils.AlleleUtils;
 
 /**
  * This is the base TE class for any block that needs to contain tree genome information.
@@ -47,8 +52,14 @@ import genetics.api.alleles.IAllele;
  */
 public abstract class TileTreeContainer extends BlockEntity implements IStreamable, IOwnedTile {
 
+	// the genomes of the trees that were created from the templates of the synced species and fruits
+	private static final Map<TemplateKey, IGenome> templateGenomes = new HashMap<>();
+
 	@Nullable
 	private ITree containedTree;
+	// a reference into a genome table that wasn't expanded when the chunk was loaded, until the tree has been read from it
+	@Nullable
+	private int[] treeReference;
 	private final OwnerHandler ownerHandler = new OwnerHandler();
 
 	public TileTreeContainer(BlockEntityType<?> type, BlockPos pos, BlockState state) {
@@ -60,8 +71,10 @@ public abstract class TileTreeContainer extends BlockEntity implements IStreamab
 	public void load(CompoundTag compoundNBT) {
 		super.load(compoundNBT);
 
-		if (compoundNBT.contains("ContainedTree")) {
-			containedTree = new Tree(compoundNBT.getCompound("ContainedTree"));
+		if (compoundNBT.contains(TreeGenomeTable.NBT_CONTAINED_TREE)) {
+			containedTree = new Tree(compoundNBT.getCompound(TreeGenomeTable.NBT_CONTAINED_TREE));
+		} else if (compoundNBT.contains(TreeGenomeTable.NBT_TREE_REFERENCE, Tag.TAG_INT_ARRAY)) {
+			treeReference = compoundNBT.getIntArray(TreeGenomeTable.NBT_TREE_REFERENCE);
 		}
 		ownerHandler.read(compoundNBT);
 	}
@@ -70,35 +83,97 @@ public abstract class TileTreeContainer extends BlockEntity implements IStreamab
 	public void saveAdditional(CompoundTag compoundNBT) {
 		super.saveAdditional(compoundNBT);
 
-		if (containedTree != null) {
+		ITree tree = getTree();
+		if (tree != null) {
 			CompoundTag subcompound = new CompoundTag();
-			containedTree.write(subcompound);
-			compoundNBT.put("ContainedTree", subcompound);
+			tree.write(subcompound);
+			compoundNBT.put(TreeGenomeTable.NBT_CONTAINED_TREE, subcompound);
+		} else if (treeReference != null) {
+			compoundNBT.putIntArray(TreeGenomeTable.NBT_TREE_REFERENCE, treeReference);
 		}
 		ownerHandler.write(compoundNBT);
 	}
 
 	@Override
-	public void writeData(PacketBufferForestry data) {
-		String speciesUID = "";
-		ITree tree = getTree();
+	public void onLoad() {
+		super.onLoad();
+		resolveTree();
+	}
+
+	/**
+	 * Replaces a reference that wasn't expanded when the chunk was loaded with the referenced tree, see
+	 * {@link TreeGenomeTable}.
+	 */
+	private void resolveTree() {
+		if (treeReference == null || level == null) {
+			return;
+		}
+		ITree tree = TreeGenomeTable.readTree(level, treeReference);
 		if (tree != null) {
-			speciesUID = tree.getIdentifier();
+			treeReference = null;
+			containedTree = tree;
+			onTreeLoaded(tree);
 		}
-		data.writeUtf(speciesUID);
+	}
+
+	/**
+	 * Called after the tree of this tile was read from a {@link TreeGenomeTable}.
+	 */
+	protected void onTreeLoaded(ITree tree) {
+	}
+
+	@Override
+	public void writeData(PacketBufferForestry data) {
+		ITree tree = getTree();
+		writeAllele(data, tree != null ? tree.getGenome().getActiveAllele(TreeChromosomes.SPECIES) : null);
 	}
 
 	@Override
 	public void readData(PacketBufferForestry data) {
-		String speciesUID = data.readUtf();
-		ITree tree = getTree(speciesUID);
-		setTree(tree);
+		IAllele species = readAllele(data);
+		if (species != null) {
+			ITree tree = getTemplateTree(species, null, false);
+			if (tree != null) {
+				setTree(tree);
+			}
+		}
+	}
+
+	/**
+	 * Writes the registry id of the given allele, see {@link AlleleUtils#getId(IAllele)}.
+	 */
+	protected static void writeAllele(PacketBufferForestry data, @Nullable IAllele allele) {
+		data.writeVarInt(allele != null ? AlleleUtils.getId(allele) + 1 : 0);
+	}
+
+	@Nullable
+	protected static IAllele readAllele(PacketBufferForestry data) {
+		return AlleleUtils.getAllele(data.readVarInt() - 1);
 	}
 
-	private static ITree getTree(String speciesUID) {
-		IAllele[] treeTemplate = TreeManager.treeRoot.getTemplates().getTemplate(speciesUID);
-		Preconditions.checkArgument(treeTemplate.length > 0, "There is no tree template for speciesUID %s", speciesUID);
-		return TreeManager.treeRoot.templateAsIndividual(treeTemplate);
+	/**
+	 * Creates a tree from the template of the given species for the client side.
+	 * The genomes are cached, since all leaves and saplings of a species share the same template.
+	 *
+	 * @param fruit Replaces the fruit allele of the template if not null.
+	 * @return null if there is no template for the given species.
+	 */
+	@Nullable
+	protected static ITree getTemplateTree(IAllele species, @Nullable IAllele fruit, boolean pollinated) {
+		TemplateKey key = new TemplateKey(species, fruit);
+		IGenome genome = templateGenomes.get(key);
+		if (genome == null) {
+			IAllele[] treeTemplate = TreeManager.treeRoot.getTemplates().getTemplate(species.getRegistryName().toString());
+			if (treeTemplate.length == 0) {
+				return null;
+			}
+			if (fruit instanceof IAlleleFruit) {
+				treeTemplate[TreeChromosomes.FRUITS.getIndex()] = fruit;
+			}
+			genome = TreeManager.treeRoot.templateAsIndividual(treeTemplate).getGenome();
+			templateGenomes.put(key, genome);
+		}
+		return new Tree(genome, pollinated ? genome : null);
 	}
 
 	/* CLIENT INFORMATION */
@@ -106,6 +181,7 @@ public abstract class TileTreeContainer extends BlockEntity implements IStreamab
 	/* CONTAINED TREE */
 	public void setTree(ITree tree) {
 		this.containedTree = tree;
+		this.treeReference = null;
 		if (level != null && level.isClientSide) {
 			RenderUtil.markForUpdate(getBlockPos());
 		}
@@ -113,6 +189,9 @@ public abstract class TileTreeContainer extends BlockEntity implements IStreamab
 
 	@Nullable
 	public ITree getTree() {
+		if (containedTree == null) {
+			resolveTree();
+		}
 		return this.containedTree;
 	}
 
@@ -128,6 +207,9 @@ public abstract class TileTreeContainer extends BlockEntity implements IStreamab
 	 */
 	public abstract void onBlockTick(Level worldIn, BlockPos pos, BlockState state, Random rand);
 
+	private record TemplateKey(IAllele species, @Nullable IAllele fruit) {
+	}
+
 	@Override
 	public ClientboundBlockEntityDataPacket getUpdatePacket() {
 		return ClientboundBlockEntityDataPacket.create(this);
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture.tiles;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.api.arboriculture.genetics.ITree;
+import forestry.arboriculture.genetics.Tree;
+import forestry.core.config.Constants;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Stores the trees of the tree containers of a chunk once per chunk in the saved chunk data.
+ * <p>
+ * Tree containers always save their whole tree, so structure templates, commands and other copies of their data stay
+ * self-contained. Only while a chunk gets saved, the trees of its saved tree containers are replaced with references
+ * into a table that is built from exactly these trees, so every tree that is still used is stored once and unused
+ * ones are dropped. When the chunk gets loaded again, the references are expanded into the trees before the block
+ * entities are created from the data.
+ * The tables of loaded chunks are kept by their stamp, so a reference that couldn't be expanded can still be resolved
+ * by its tree container while the table is loaded.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID)
+public class TreeGenomeTable {
+	public static final String NBT_CONTAINED_TREE = "ContainedTree";
+	public static final String NBT_TREE_REFERENCE = "TreeRef";
+
+	private static final String NBT_BLOCK_ENTITIES = "block_entities";
+	private static final String NBT_TABLE = "ForestryTreeGenomes";
+	private static final String NBT_STAMP = "Stamp";
+	private static final String NBT_TREES = "Trees";
+
+	private static final int REFERENCE_STAMP = 0;
+	private static final int REFERENCE_TREE = 1;
+	private static final int REFERENCE_LENGTH = 2;
+	private static final int NO_TREE = -1;
+
+	// separate from the level random, so saving doesn't change the random of the game
+	private static final Random stampRandom = new Random();
+	// World > chunk > table, and the same tables by their stamp
+	private static final Map<LevelAccessor, Long2ObjectMap<TreeGenomeTable>> chunkTables = new HashMap<>();
+	private static final Map<LevelAccessor, Int2ObjectMap<TreeGenomeTable>> stampTables = new HashMap<>();
+
+	private final int stamp;
+	private final List<CompoundTag> trees;
+	private final Object2IntMap<CompoundTag> indices = new Object2IntOpenHashMap<>();
+
+	private TreeGenomeTable(int stamp, List<CompoundTag> trees) {
+		this.stamp = stamp;
+		this.trees = trees;
+		this.indices.defaultReturnValue(NO_TREE);
+	}
+
+	private int add(CompoundTag tree) {
+		int index = indices.getInt(tree);
+		if (index == NO_TREE) {
+			index = trees.size();
+			trees.add(tree);
+			indices.put(tree, index);
+		}
+		return index;
+	}
+
+	@Nullable
+	private CompoundTag get(int[] reference) {
+		if (reference.length != REFERENCE_LENGTH || reference[REFERENCE_STAMP] != stamp) {
+			return null;
+		}
+		int index = reference[REFERENCE_TREE];
+		return index >= 0 && index < trees.size() ? trees.get(index) : null;
+	}
+
+	/**
+	 * @return A copy of the given block entity data that references its tree in this table instead of containing it.
+	 */
+	private CompoundTag writeReference(CompoundTag tileData, CompoundTag tree) {
+		CompoundTag referenceData = new CompoundTag();
+		for (String key : tileData.getAllKeys()) {
+			if (!key.equals(NBT_CONTAINED_TREE) && !key.equals(NBT_TREE_REFERENCE)) {
+				referenceData.put(key, tileData.get(key));
+			}
+		}
+		int[] reference = new int[REFERENCE_LENGTH];
+		reference[REFERENCE_STAMP] = stamp;
+		reference[REFERENCE_TREE] = add(tree);
+		referenceData.putIntArray(NBT_TREE_REFERENCE, reference);
+		return referenceData;
+	}
+
+	/**
+	 * @return The tree of the given reference, or null if no table with the stamp of the reference is loaded in the
+	 * given world.
+	 */
+	@Nullable
+	public static ITree readTree(Level world, int[] reference) {
+		CompoundTag tree = getTree(world, reference);
+		return tree != null ? new Tree(tree) : null;
+	}
+
+	@Nullable
+	private static CompoundTag getTree(LevelAccessor world, int[] reference) {
+		Int2ObjectMap<TreeGenomeTable> tables = stampTables.get(world);
+		if (tables == null || reference.length != REFERENCE_LENGTH) {
+			return null;
+		}
+		TreeGenomeTable table = tables.get(reference[REFERENCE_STAMP]);
+		return table != null ? table.get(reference) : null;
+	}
+
+	@SubscribeEvent
+	public static void onChunkLoad(ChunkDataEvent.Load event) {
+		LevelAccessor world = event.getWorld();
+		CompoundTag data = event.getData();
+		if (world == null || world.isClientSide() || !data.contains(NBT_TABLE, Tag.TAG_COMPOUND)) {
+			return;
+		}
+		CompoundTag tableTag = data.getCompound(NBT_TABLE);
+		ListTag treeTags = tableTag.getList(NBT_TREES, Tag.TAG_COMPOUND);
+		List<CompoundTag> trees = new ArrayList<>(treeTags.size());
+		for (int i = 0; i < treeTags.size(); i++) {
+			trees.add(treeTags.getCompound(i));
+		}
+		TreeGenomeTable table = new TreeGenomeTable(tableTag.getInt(NBT_STAMP), trees);
+		chunkTables.computeIfAbsent(world, k -> new Long2ObjectOpenHashMap<>()).put(event.getChunk().getPos().toLong(), table);
+		stampTables.computeIfAbsent(world, k -> new Int2ObjectOpenHashMap<>()).put(table.stamp, table);
+
+		// the chunk creates its block entities from these compounds later, so they are expanded in place
+		ListTag blockEntities = data.getList(NBT_BLOCK_ENTITIES, Tag.TAG_COMPOUND);
+		for (int i = 0; i < blockEntities.size(); i++) {
+			CompoundTag tileData = blockEntities.getCompound(i);
+			if (!tileData.contains(NBT_TREE_REFERENCE, Tag.TAG_INT_ARRAY)) {
+				continue;
+			}
+			CompoundTag tree = table.get(tileData.getIntArray(NBT_TREE_REFERENCE));
+			if (tree != null) {
+				tileData.remove(NBT_TREE_REFERENCE);
+				tileData.put(NBT_CONTAINED_TREE, tree.copy());
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onChunkSave(ChunkDataEvent.Save event) {
+		LevelAccessor world = event.getWorld();
+		CompoundTag data = event.getData();
+		if (world == null || world.isClientSide()) {
+			return;
+		}
+		TreeGenomeTable table = null;
+		ListTag blockEntities = data.getList(NBT_BLOCK_ENTITIES, Tag.TAG_COMPOUND);
+		for (int i = 0; i < blockEntities.size(); i++) {
+			CompoundTag tileData = blockEntities.getCompound(i);
+			CompoundTag tree;
+			if (tileData.contains(NBT_CONTAINED_TREE, Tag.TAG_COMPOUND)) {
+				tree = tileData.getCompound(NBT_CONTAINED_TREE);
+			} else if (tileData.contains(NBT_TREE_REFERENCE, Tag.TAG_INT_ARRAY)) {
+				// a reference that couldn't be expanded is kept as it is, unless its table is loaded by now
+				tree = getTree(world, tileData.getIntArray(NBT_TREE_REFERENCE));
+			} else {
+				tree = null;
+			}
+			if (tree == null) {
+				continue;
+			}
+			if (table == null) {
+				table = new TreeGenomeTable(stampRandom.nextInt(), new ArrayList<>());
+			}
+			// the compounds may still be used by the chunk, so they are replaced instead of changed
+			blockEntities.set(i, table.writeReference(tileData, tree));
+		}
+		if (table == null) {
+			return;
+		}
+		ListTag treeTags = new ListTag();
+		treeTags.addAll(table.trees);
+		CompoundTag tableTag = new CompoundTag();
+		tableTag.putInt(NBT_STAMP, table.stamp);
+		tableTag.put(NBT_TREES, treeTags);
+		data.put(NBT_TABLE, tableTag);
+	}
+
+	@SubscribeEvent
+	public static void onChunkUnload(ChunkEvent.Unload event) {
+		Long2ObjectMap<TreeGenomeTable> tables = chunkTables.get(event.getWorld());
+		TreeGenomeTable table = tables != null ? tables.remove(event.getChunk().getPos().toLong()) : null;
+		if (table != null) {
+			stampTables.get(event.getWorld()).remove(table.stamp, table);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		chunkTables.remove(event.getWorld());
+		stampTables.remove(event.getWorld());
+	}
+}
@@ -33,6 +33,7 @@ import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IForestrySpeciesRoot;
 import forestry.apiculture.ApiaristAI;
 import forestry.apiculture.villagers.RegisterVillager;
+import forestry.core.climate.ClimateRoot;
 import forestry.core.config.Constants;
 import forestry.modules.ModuleManager;
 
@@ -106,6 +107,7 @@ public class EventHandlerCore {
 		for (ISaveEventHandler handler : ModuleManager.saveEventHandlers) {
 			handler.onWorldUnload(event.getWorld());
 		}
+		ClimateRoot.getInstance().onWorldUnload(event.getWorld());
 	}
 
 	//TODO: Was replaced by the global loot modifiers, should be removes once testing finished
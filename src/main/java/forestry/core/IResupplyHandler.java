@@ -14,6 +14,15 @@ import net.minecraft.world.entity.player.Player;
 
 public interface IResupplyHandler {
 
+	/**
+	 * Called every {@link forestry.core.config.Config#backpackResupplyInterval} ticks for every player.
+	 */
 	void resupply(Player player);
 
+	/**
+	 * Called if the player leaves the server, to drop any data the handler has cached for the player.
+	 */
+	default void onPlayerLoggedOut(Player player) {
+	}
+
 }
@@ -28,6 +28,7 @@ import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.world.ChunkDataEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
@@ -52,7 +53,12 @@ public class TickHandlerCoreServer {
 		}
 
 		if (Config.enableBackpackResupply) {
+			long gameTime = event.world.getGameTime();
 			for (Player obj : event.world.players()) {
+				// spread the players over the interval, so not all of them get resupplied in the same tick
+				if ((gameTime + obj.getId()) % Config.backpackResupplyInterval != 0) {
+					continue;
+				}
 				for (IResupplyHandler handler : ModuleManager.resupplyHandlers) {
 					handler.resupply(obj);
 				}
@@ -98,6 +104,13 @@ public class TickHandlerCoreServer {
 		return true;
 	}
 
+	@SubscribeEvent
+	public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+		for (IResupplyHandler handler : ModuleManager.resupplyHandlers) {
+			handler.onPlayerLoggedOut(event.getPlayer());
+		}
+	}
+
 	@SubscribeEvent
 	public static void chunkSaveEventHandler(ChunkDataEvent.Save event) {
 		CompoundTag tag = new CompoundTag();
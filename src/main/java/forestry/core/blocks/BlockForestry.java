@@ -26,6 +26,7 @@ import com.mojang.authlib.GameProfile;
 import forestry.core.owner.IOwnedTile;
 import forestry.core.owner.IOwnerHandler;
 import forestry.core.tiles.TileForestry;
+import forestry.core.tiles.TilePowered;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.Log;
 
@@ -56,6 +57,15 @@ public abstract class BlockForestry extends Block {
 		}
 	}
 
+	@Override
+	public void neighborChanged(BlockState state, Level world, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+		super.neighborChanged(state, world, pos, block, fromPos, isMoving);
+
+		if (!world.isClientSide) {
+			TileUtil.actOnTile(world, pos, TilePowered.class, TilePowered::wakeUp);
+		}
+	}
+
 	@Override
 	public void onNeighborChange(BlockState state, LevelReader world, BlockPos pos, BlockPos neighbor) {
 		super.onNeighborChange(state, world, pos, neighbor);
@@ -10,9 +10,13 @@
  ******************************************************************************/
 package forestry.core.climate;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.storage.DimensionDataStorage;
@@ -31,6 +35,9 @@ public class ClimateRoot implements IClimateRoot {
 
 	private static final ClimateRoot INSTANCE = new ClimateRoot();
 
+	// Saves the lookup in the data storage of the world on every climate query
+	private final Map<LevelAccessor, WorldClimateHolder> holders = new HashMap<>();
+
 	public static ClimateRoot getInstance() {
 		return INSTANCE;
 	}
@@ -64,9 +71,20 @@ public class ClimateRoot implements IClimateRoot {
 	@Override
 	public IWorldClimateHolder getWorldClimate(Level world) {
 		//TODO - need to make sure this is only called server side...
-		DimensionDataStorage storage = ((ServerLevel) world).getDataStorage();
-		WorldClimateHolder holder = storage.computeIfAbsent(WorldClimateHolder::new, WorldClimateHolder::new, WorldClimateHolder.NAME);
-		holder.setWorld(world);
+		WorldClimateHolder holder = holders.get(world);
+		if (holder == null) {
+			DimensionDataStorage storage = ((ServerLevel) world).getDataStorage();
+			holder = storage.computeIfAbsent(WorldClimateHolder::new, WorldClimateHolder::new, WorldClimateHolder.NAME);
+			holder.setWorld(world);
+			holders.put(world, holder);
+		}
 		return holder;
 	}
+
+	public void onWorldUnload(LevelAccessor world) {
+		WorldClimateHolder holder = holders.remove(world);
+		if (holder != null) {
+			holder.setWorld(null);
+		}
+	}
 }
@@ -2,9 +2,7 @@ package forestry.core.climate;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -22,10 +20,11 @@ import forestry.api.climate.IWorldClimateHolder;
 import forestry.api.climate.Position2D;
 import forestry.api.core.INbtWritable;
 
-import it.unimi.dsi.fastutil.longs.Long2LongArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
 public class WorldClimateHolder extends SavedData implements IWorldClimateHolder {
 	private static final TransformerData DEFAULT_DATA = new TransformerData(0L, ClimateStateHelper.INSTANCE.absent(), 0, false, new long[0]);
@@ -43,7 +42,9 @@ public class WorldClimateHolder extends SavedData implements IWorldClimateHolder
 
 	private final Long2ObjectMap<TransformerData> transformers = new Long2ObjectOpenHashMap<>();
 	private final Long2ObjectMap<long[]> transformersByChunk = new Long2ObjectOpenHashMap<>();
-	private final Long2LongMap chunkUpdates = new Long2LongArrayMap();
+	private final Long2LongMap chunkUpdates = new Long2LongOpenHashMap();
+	// Chunk > lazily computed climate state of every block column of the chunk, dropped on every chunk update
+	private final Long2ObjectMap<IClimateState[]> climateFields = new Long2ObjectOpenHashMap<>();
 
 	@Nullable
 	private Level world;
@@ -138,6 +139,7 @@ public class WorldClimateHolder extends SavedData implements IWorldClimateHolder
 	}
 
 	private void markChunkUpdate(long chunkPos) {
+		climateFields.remove(chunkPos);
 		if (world != null) {
 			chunkUpdates.put(chunkPos, world.getGameTime());
 		}
@@ -153,6 +155,10 @@ public class WorldClimateHolder extends SavedData implements IWorldClimateHolder
 			boolean needClimateUpdate = !data.climateState.equals(transformer.getCurrent());
 			data.climateState = transformer.getCurrent().toImmutable();
 			if (needChunkUpdate) {
+				// the area of the transformer changes, so the cached states of its old chunks are outdated
+				for (long chunkPos : data.chunks) {
+					climateFields.remove(chunkPos);
+				}
 				data.circular = transformer.isCircular();
 				data.range = transformer.getRange();
 				data.chunks = updateTransformerChunks(transformer, needClimateUpdate);
@@ -172,20 +178,22 @@ public class WorldClimateHolder extends SavedData implements IWorldClimateHolder
 		BlockPos transformerPos = transformer.getCoordinates();
 		long longPos = transformerPos.asLong();
 		int range = transformer.getRange();
-		Set<Long> chunkSet = new HashSet<>();
-		for (int x = transformerPos.getX() - range; x <= transformerPos.getX() + range; x += 16) {
-			for (int z = transformerPos.getZ() - range; z <= transformerPos.getZ() + range; z += 16) {
-				int chunkX = x >> 4;
-				int chunkZ = z >> 4;
+		int minChunkX = (transformerPos.getX() - range) >> 4;
+		int maxChunkX = (transformerPos.getX() + range) >> 4;
+		int minChunkZ = (transformerPos.getZ() - range) >> 4;
+		int maxChunkZ = (transformerPos.getZ() + range) >> 4;
+		LongArrayList chunks = new LongArrayList((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1));
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
 				long chunkPos = ChunkPos.asLong(chunkX, chunkZ);
 				addTransformer(chunkPos, longPos);
-				chunkSet.add(chunkPos);
+				chunks.add(chunkPos);
 				if (forceDirty) {
 					markChunkUpdate(chunkPos);
 				}
 			}
 		}
-		return chunkSet.stream().mapToLong(l -> l).toArray();
+		return chunks.toLongArray();
 	}
 
 	@Override
@@ -219,30 +227,69 @@ public class WorldClimateHolder extends SavedData implements IWorldClimateHolder
 
 	@Override
 	public boolean isPositionInTransformerRange(long position, Position2D blockPos) {
-		BlockPos pos = BlockPos.of(position);
-		int range = getRange(position);
-		if (isCircular(position)) {
-			double distance = Math.round(blockPos.getDistance(pos));
+		return isInRange(position, transformers.getOrDefault(position, DEFAULT_DATA), blockPos.getX(), blockPos.getZ());
+	}
+
+	private static boolean isInRange(long transformerPos, TransformerData data, int x, int z) {
+		int range = data.range;
+		int distanceX = x - BlockPos.getX(transformerPos);
+		int distanceZ = z - BlockPos.getZ(transformerPos);
+		if (data.circular) {
+			double distance = Math.round(Math.sqrt((double) distanceX * distanceX + (double) distanceZ * distanceZ));
 			return range > 0.0F && distance <= range;
 		}
-		return Mth.abs(blockPos.getX() - pos.getX()) <= range && Mth.abs(blockPos.getZ() - pos.getZ()) <= range;
+		return Mth.abs(distanceX) <= range && Mth.abs(distanceZ) <= range;
 	}
 
 	@Override
 	public IClimateState getState(BlockPos pos) {
-		long chunkPos = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
-		if (!transformersByChunk.containsKey(chunkPos)) {
+		int x = pos.getX();
+		int z = pos.getZ();
+		long chunkPos = ChunkPos.asLong(x >> 4, z >> 4);
+		long[] chunkTransformers = transformersByChunk.get(chunkPos);
+		if (chunkTransformers == null) {
 			return ClimateStateHelper.INSTANCE.absent();
 		}
-		double transformerCount = 0;
-		IClimateState state = ClimateStateHelper.INSTANCE.mutableZero();
-		for (long transformerPos : transformersByChunk.get(chunkPos)) {
-			if (isPositionInTransformerRange(transformerPos, new Position2D(pos))) {
-				state = state.add(getClimate(transformerPos));
+		IClimateState[] field = climateFields.get(chunkPos);
+		if (field == null) {
+			field = new IClimateState[256];
+			climateFields.put(chunkPos, field);
+		}
+		int index = (z & 15) << 4 | (x & 15);
+		IClimateState state = field[index];
+		if (state == null) {
+			state = computeState(chunkTransformers, x, z);
+			field[index] = state;
+		}
+		return state;
+	}
+
+	private IClimateState computeState(long[] chunkTransformers, int x, int z) {
+		int transformerCount = 0;
+		float temperature = 0.0F;
+		float humidity = 0.0F;
+		// the state of the last transformer in range, returned as is if it is the only one
+		IClimateState single = null;
+		for (long transformerPos : chunkTransformers) {
+			TransformerData data = transformers.getOrDefault(transformerPos, DEFAULT_DATA);
+			if (isInRange(transformerPos, data, x, z)) {
+				IClimateState climate = data.climateState;
+				if (!climate.isPresent()) {
+					return ClimateStateHelper.INSTANCE.absent();
+				}
+				temperature += climate.getTemperature();
+				humidity += climate.getHumidity();
+				single = climate;
 				transformerCount++;
 			}
 		}
-		return transformerCount > 0 ? state.multiply(1.0D / transformerCount).toImmutable() : ClimateStateHelper.INSTANCE.absent();
+		if (transformerCount == 0) {
+			return ClimateStateHelper.INSTANCE.absent();
+		} else if (transformerCount == 1) {
+			return single;
+		}
+		double factor = 1.0D / transformerCount;
+		return ClimateStateHelper.INSTANCE.create((float) (temperature * factor), (float) (humidity * factor));
 	}
 
 	@Override
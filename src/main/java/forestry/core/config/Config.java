@@ -20,6 +20,7 @@ public class Config {
 
 	// Graphics
 	public static final boolean enableParticleFX = true;
+	public static final boolean warmUpModels = true;
 
 	// Humus
 	public static final int humusDegradeDelimiter = 3;
@@ -48,6 +49,7 @@ public class Config {
 
 	// Performance
 	public static final boolean enableBackpackResupply = true;
+	public static final int backpackResupplyInterval = 10;
 
 	// Farm
 	public static final int farmSize = 2;
@@ -59,6 +61,10 @@ public class Config {
 	public static final boolean ringFarms = true;
 	public static final int ringSize = 4;
 
+	// Genetic filter
+	public static final boolean filterBurstMode = false;
+	public static final int filterTransferBudget = 256;
+
 	// Mail
 	public static final boolean mailAlertEnabled = true;
 	public static final GuiMailboxInfo.XPosition mailAlertXPosition = GuiMailboxInfo.XPosition.LEFT;
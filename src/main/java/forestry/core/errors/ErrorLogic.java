@@ -12,8 +12,8 @@ package forestry.core.errors;
 
 import com.google.common.collect.ImmutableSet;
 
-import java.util.HashSet;
-import java.util.Set;
+import javax.annotation.Nullable;
+import java.util.BitSet;
 
 import net.minecraft.network.FriendlyByteBuf;
 
@@ -21,25 +21,43 @@ import forestry.api.core.ForestryAPI;
 import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorState;
 
+/**
+ * Stores the active error states as a bit set indexed by {@link IErrorState#getID()}.
+ * <p>
+ * Every change of the active states increments {@link #getModCount()}, so {@link ErrorStateTracker} can skip the
+ * comparison of the states as long as nothing changed.
+ */
 public class ErrorLogic implements IErrorLogic {
-	private final Set<IErrorState> errorStates = new HashSet<>();
+	private final BitSet errorStates = new BitSet();
+	private long modCount;
+	@Nullable
+	private ImmutableSet<IErrorState> errorStateSet;
+
+	private static int getIndex(IErrorState errorState) {
+		return Short.toUnsignedInt(errorState.getID());
+	}
+
+	private void onChange() {
+		modCount++;
+		errorStateSet = null;
+	}
 
 	@Override
 	public final boolean setCondition(boolean condition, IErrorState errorState) {
 		if (errorState == null) {
 			return false;
 		}
-		if (condition) {
-			errorStates.add(errorState);
-		} else {
-			errorStates.remove(errorState);
+		int index = getIndex(errorState);
+		if (errorStates.get(index) != condition) {
+			errorStates.set(index, condition);
+			onChange();
 		}
 		return condition;
 	}
 
 	@Override
 	public final boolean contains(IErrorState state) {
-		return errorStates.contains(state);
+		return errorStates.get(getIndex(state));
 	}
 
 	@Override
@@ -49,33 +67,60 @@ public class ErrorLogic implements IErrorLogic {
 
 	@Override
 	public final ImmutableSet<IErrorState> getErrorStates() {
-		return ImmutableSet.copyOf(errorStates);
+		if (errorStateSet == null) {
+			ImmutableSet.Builder<IErrorState> builder = ImmutableSet.builder();
+			for (int index = errorStates.nextSetBit(0); index >= 0; index = errorStates.nextSetBit(index + 1)) {
+				IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState((short) index);
+				if (errorState != null) {
+					builder.add(errorState);
+				}
+			}
+			errorStateSet = builder.build();
+		}
+		return errorStateSet;
 	}
 
 	@Override
 	public void clearErrors() {
-		errorStates.clear();
+		if (!errorStates.isEmpty()) {
+			errorStates.clear();
+			onChange();
+		}
+	}
+
+	/**
+	 * @return The number of times the active error states have changed.
+	 */
+	public long getModCount() {
+		return modCount;
+	}
+
+	/**
+	 * @return A copy of the bit set of the active error states.
+	 */
+	public BitSet copyErrorStates() {
+		return (BitSet) errorStates.clone();
+	}
+
+	/**
+	 * @return true if the given bit set contains exactly the active error states.
+	 */
+	public boolean hasErrorStates(BitSet errorStates) {
+		return this.errorStates.equals(errorStates);
 	}
 
 	@Override
 	public void writeData(FriendlyByteBuf data) {
-		data.writeShort(errorStates.size());
-		for (IErrorState errorState : errorStates) {
-			data.writeShort(errorState.getID());
-		}
+		data.writeLongArray(errorStates.toLongArray());
 	}
 
 	@Override
 	public void readData(FriendlyByteBuf data) {
-		clearErrors();
-
-		short errorStateCount = data.readShort();
-		for (int i = 0; i < errorStateCount; i++) {
-			short errorStateId = data.readShort();
-			IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState(errorStateId);
-			if (errorState != null) {
-				errorStates.add(errorState);
-			}
+		BitSet received = BitSet.valueOf(data.readLongArray(null));
+		if (!errorStates.equals(received)) {
+			errorStates.clear();
+			errorStates.or(received);
+			onChange();
 		}
 	}
 }
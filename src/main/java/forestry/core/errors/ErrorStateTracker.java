@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.errors;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+
+import forestry.api.core.IErrorLogic;
+import forestry.api.core.IErrorState;
+
+/**
+ * Detects changes of the active error states of an {@link IErrorLogic}, so containers only send them to the client
+ * when they have changed.
+ */
+public class ErrorStateTracker {
+	@Nullable
+	private ErrorLogic errorLogic;
+	private long modCount;
+	@Nullable
+	private BitSet errorStates;
+	@Nullable
+	private ImmutableSet<IErrorState> errorStateSet;
+
+	/**
+	 * @return true if the active error states differ from the ones of the previous call.
+	 */
+	public boolean update(IErrorLogic errorLogic) {
+		if (errorLogic instanceof ErrorLogic logic) {
+			if (logic == this.errorLogic && logic.getModCount() == modCount) {
+				return false;
+			}
+			this.errorLogic = logic;
+			this.modCount = logic.getModCount();
+			if (errorStates != null && logic.hasErrorStates(errorStates)) {
+				return false;
+			}
+			errorStates = logic.copyErrorStates();
+			return true;
+		}
+
+		ImmutableSet<IErrorState> states = errorLogic.getErrorStates();
+		boolean changed = !states.equals(errorStateSet);
+		errorStateSet = states;
+		return changed;
+	}
+}
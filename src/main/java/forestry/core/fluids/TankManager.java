@@ -39,6 +39,7 @@ import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.render.EnumTankLevel;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.IRenderableTile;
+import forestry.core.tiles.TilePowered;
 import forestry.core.utils.NBTUtilForestry;
 import forestry.core.utils.NBTUtilForestry.NBTList;
 import forestry.core.utils.NetworkUtil;
@@ -267,6 +268,9 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 
 	@Override
 	public void updateTankLevels(StandardTank tank) {
+		if (tile instanceof TilePowered poweredTile) {
+			poweredTile.wakeUp();
+		}
 		updateTankLevels(tank, true);
 	}
 
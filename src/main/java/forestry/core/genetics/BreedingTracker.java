@@ -11,10 +11,10 @@
 package forestry.core.genetics;
 
 import javax.annotation.Nullable;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import net.minecraft.world.entity.player.Player;
@@ -39,6 +39,11 @@ import genetics.api.individual.IIndividual;
 import genetics.api.mutation.IMutation;
 import genetics.api.root.IRootDefinition;
 
+/**
+ * Stores the discovered species and the discovered and researched mutations as bit sets over the ids of
+ * {@link BreedingTrackerIndex}. Species and mutations that have no id, like the ones of a removed addon, are kept
+ * by their string key so they don't get lost on the next save.
+ */
 public abstract class BreedingTracker extends SavedData implements IBreedingTracker {
 
 	private static final String SPECIES_COUNT_KEY = "SpeciesCount";
@@ -48,14 +53,16 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 	private static final String MUTATIONS_KEY = "MD";
 	private static final String RESEARCHED_KEY = "RD";
 	private static final String MODE_NAME_KEY = "BMS";
-	private static final String MUTATION_FORMAT = "%s-%s=%s";
-	private static final Collection<String> emptyStringCollection = Collections.emptyList();
+	private static final BitSet EMPTY_BITS = new BitSet();
 
 	public static final String TYPE_KEY = "TYPE";
 
-	private final Set<String> discoveredSpecies = new HashSet<>();
-	private final Set<String> discoveredMutations = new HashSet<>();
-	private final Set<String> researchedMutations = new HashSet<>();
+	private final BitSet discoveredSpecies = new BitSet();
+	private final BitSet discoveredMutations = new BitSet();
+	private final BitSet researchedMutations = new BitSet();
+	private final Set<String> unknownSpecies = new HashSet<>();
+	private final Set<String> unknownDiscoveredMutations = new HashSet<>();
+	private final Set<String> unknownResearchedMutations = new HashSet<>();
 	private String modeName;
 
 	@Nullable
@@ -69,14 +76,7 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 
 	protected BreedingTracker(String defaultModeName, CompoundTag tag) {
 		this(defaultModeName);
-
-		if (tag.contains(MODE_NAME_KEY)) {
-			modeName = tag.getString(MODE_NAME_KEY);
-		}
-
-		readValuesFromNBT(tag, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		readValuesFromNBT(tag, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		readValuesFromNBT(tag, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		readFromNBT(tag);
 	}
 
 	public void setUsername(@Nullable GameProfile username) {
@@ -111,6 +111,10 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 	 */
 	protected abstract String speciesRootUID();
 
+	private BreedingTrackerIndex getIndex() {
+		return BreedingTrackerIndex.get(speciesRootUID());
+	}
+
 	@Override
 	public void synchToPlayer(Player player) {
 		if (player instanceof ServerPlayer && !(player instanceof FakePlayer)) {
@@ -118,14 +122,15 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 			String modeName = breedingTracker.getModeName();
 			setModeName(modeName);
 
-			CompoundTag CompoundNBT = new CompoundTag();
-			encodeToNBT(CompoundNBT);
-			PacketGenomeTrackerSync packet = new PacketGenomeTrackerSync(CompoundNBT);
+			PacketGenomeTrackerSync packet = new PacketGenomeTrackerSync(speciesRootUID(), modeName, true, discoveredSpecies, discoveredMutations, researchedMutations);
 			NetworkUtil.sendToPlayer(packet, player);
 		}
 	}
 
-	private void syncToPlayer(Collection<String> discoveredSpecies, Collection<String> discoveredMutations, Collection<String> researchedMutations) {
+	/**
+	 * Sends only the given, newly set bits to the player of this tracker.
+	 */
+	private void syncToPlayer(BitSet discoveredSpecies, BitSet discoveredMutations, BitSet researchedMutations) {
 		if (world != null && username != null && username.getName() != null) {
 			Player player = world.getPlayerByUUID(username.getId());
 			if (player instanceof ServerPlayer && !(player instanceof FakePlayer)) {
@@ -133,18 +138,45 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 				String modeName = breedingTracker.getModeName();
 				setModeName(modeName);
 
-				CompoundTag compound = new CompoundTag();
-				writeToNBT(compound, discoveredSpecies, discoveredMutations, researchedMutations);
-				PacketGenomeTrackerSync packet = new PacketGenomeTrackerSync(compound);
+				PacketGenomeTrackerSync packet = new PacketGenomeTrackerSync(speciesRootUID(), modeName, false, discoveredSpecies, discoveredMutations, researchedMutations);
 				NetworkUtil.sendToPlayer(packet, player);
 			}
 		}
 	}
 
+	private static BitSet singleBit(int id) {
+		BitSet bits = new BitSet();
+		bits.set(id);
+		return bits;
+	}
+
+	/**
+	 * Applies a {@link PacketGenomeTrackerSync} on the client.
+	 *
+	 * @param full If true the tracker is replaced by the given state, otherwise the given bits are added to it.
+	 */
+	public void applySync(String modeName, boolean full, BitSet discoveredSpecies, BitSet discoveredMutations, BitSet researchedMutations) {
+		this.modeName = modeName;
+		if (full) {
+			this.discoveredSpecies.clear();
+			this.discoveredMutations.clear();
+			this.researchedMutations.clear();
+		}
+		this.discoveredSpecies.or(discoveredSpecies);
+		this.discoveredMutations.or(discoveredMutations);
+		this.researchedMutations.or(researchedMutations);
+	}
+
 	/* HELPER FUNCTIONS TO PREVENT OBFUSCATION OF INTERFACE METHODS */
 	@Override
 	public void decodeFromNBT(CompoundTag compound) {
-		// load(compound);
+		discoveredSpecies.clear();
+		discoveredMutations.clear();
+		researchedMutations.clear();
+		unknownSpecies.clear();
+		unknownDiscoveredMutations.clear();
+		unknownResearchedMutations.clear();
+		readFromNBT(compound);
 	}
 
 	@Override
@@ -154,23 +186,62 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 
 	@Override
 	public CompoundTag save(CompoundTag CompoundNBT) {
-		writeToNBT(CompoundNBT, discoveredSpecies, discoveredMutations, researchedMutations);
-		return CompoundNBT;
-	}
-
-	private void writeToNBT(CompoundTag CompoundNBT, Collection<String> discoveredSpecies, Collection<String> discoveredMutations, Collection<String> researchedMutations) {
 		if (modeName != null && !modeName.isEmpty()) {
 			CompoundNBT.putString(MODE_NAME_KEY, modeName);
 		}
 
 		CompoundNBT.putString(TYPE_KEY, speciesRootUID());
 
-		writeValuesToNBT(CompoundNBT, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		writeValuesToNBT(CompoundNBT, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		writeValuesToNBT(CompoundNBT, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		BreedingTrackerIndex index = getIndex();
+		List<String> species = new ArrayList<>(unknownSpecies);
+		discoveredSpecies.stream().mapToObj(BreedingTrackerIndex::getSpeciesKey).forEach(species::add);
+		writeValuesToNBT(CompoundNBT, species, SPECIES_COUNT_KEY, SPECIES_KEY);
+		writeValuesToNBT(CompoundNBT, getMutationKeys(index, discoveredMutations, unknownDiscoveredMutations), MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
+		writeValuesToNBT(CompoundNBT, getMutationKeys(index, researchedMutations, unknownResearchedMutations), RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		return CompoundNBT;
+	}
+
+	private static List<String> getMutationKeys(BreedingTrackerIndex index, BitSet mutations, Set<String> unknownMutations) {
+		List<String> keys = new ArrayList<>(unknownMutations);
+		mutations.stream().mapToObj(index::getMutation).forEach(mutation -> {
+			if (mutation != null) {
+				keys.add(BreedingTrackerIndex.getMutationKey(mutation));
+			}
+		});
+		return keys;
 	}
 
-	private static void readValuesFromNBT(CompoundTag CompoundNBT, Set<String> values, String countKey, String key) {
+	private void readFromNBT(CompoundTag tag) {
+		if (tag.contains(MODE_NAME_KEY)) {
+			modeName = tag.getString(MODE_NAME_KEY);
+		}
+
+		BreedingTrackerIndex index = getIndex();
+		for (String key : readValuesFromNBT(tag, SPECIES_COUNT_KEY, SPECIES_KEY)) {
+			int id = BreedingTrackerIndex.getSpeciesId(key);
+			if (id >= 0) {
+				discoveredSpecies.set(id);
+			} else {
+				unknownSpecies.add(key);
+			}
+		}
+		readMutationsFromNBT(tag, index, discoveredMutations, unknownDiscoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
+		readMutationsFromNBT(tag, index, researchedMutations, unknownResearchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+	}
+
+	private static void readMutationsFromNBT(CompoundTag tag, BreedingTrackerIndex index, BitSet mutations, Set<String> unknownMutations, String countKey, String key) {
+		for (String mutationKey : readValuesFromNBT(tag, countKey, key)) {
+			int id = index.getMutationId(mutationKey);
+			if (id >= 0) {
+				mutations.set(id);
+			} else {
+				unknownMutations.add(mutationKey);
+			}
+		}
+	}
+
+	private static List<String> readValuesFromNBT(CompoundTag CompoundNBT, String countKey, String key) {
+		List<String> values = new ArrayList<>();
 		if (CompoundNBT.contains(countKey)) {
 			final int count = CompoundNBT.getInt(countKey);
 			for (int i = 0; i < count; i++) {
@@ -182,61 +253,76 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 				}
 			}
 		}
+		return values;
 	}
 
-	private static void writeValuesToNBT(CompoundTag CompoundNBT, Collection<String> values, String countKey, String key) {
+	private static void writeValuesToNBT(CompoundTag CompoundNBT, List<String> values, String countKey, String key) {
 		final int count = values.size();
 		CompoundNBT.putInt(countKey, count);
-		Iterator<String> iterator = values.iterator();
 		for (int i = 0; i < count; i++) {
-			String value = iterator.next();
+			String value = values.get(i);
 			if (value != null && !value.isEmpty()) {
 				CompoundNBT.putString(key + i, value);
 			}
 		}
 	}
 
-	private static String getMutationString(IMutation mutation) {
-		String species0 = mutation.getFirstParent().getRegistryName().toString();
-		String species1 = mutation.getSecondParent().getRegistryName().toString();
-		String resultSpecies = mutation.getResultingSpecies().getRegistryName().toString();
-		return String.format(MUTATION_FORMAT, species0, species1, resultSpecies);
-	}
-
 	@Override
 	public void registerMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!discoveredMutations.contains(mutationString)) {
-			discoveredMutations.add(mutationString);
+		int id = getIndex().getMutationId(mutation);
+		boolean added;
+		if (id >= 0) {
+			added = !discoveredMutations.get(id);
+			discoveredMutations.set(id);
+		} else {
+			added = unknownDiscoveredMutations.add(BreedingTrackerIndex.getMutationKey(mutation));
+		}
+		if (added) {
 			setDirty();
 
 			IRootDefinition speciesRoot = GeneticsAPI.apiInstance.getRoot(speciesRootUID());
 			ForestryEvent event = new ForestryEvent.MutationDiscovered(speciesRoot, username, mutation, this);
 			MinecraftForge.EVENT_BUS.post(event);
 
-			syncToPlayer(emptyStringCollection, Collections.singleton(mutationString), emptyStringCollection);
+			if (id >= 0) {
+				syncToPlayer(EMPTY_BITS, singleBit(id), EMPTY_BITS);
+			}
 		}
 	}
 
 	@Override
 	public boolean isDiscovered(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return discoveredMutations.contains(mutationString) || researchedMutations.contains(mutationString);
+		int id = getIndex().getMutationId(mutation);
+		if (id >= 0) {
+			return discoveredMutations.get(id) || researchedMutations.get(id);
+		}
+		String mutationKey = BreedingTrackerIndex.getMutationKey(mutation);
+		return unknownDiscoveredMutations.contains(mutationKey) || unknownResearchedMutations.contains(mutationKey);
 	}
 
 	@Override
 	public boolean isDiscovered(IAlleleSpecies species) {
-		return discoveredSpecies.contains(species.getRegistryName().toString());
+		int id = BreedingTrackerIndex.getSpeciesId(species);
+		if (id >= 0) {
+			return discoveredSpecies.get(id);
+		}
+		return unknownSpecies.contains(species.getRegistryName().toString());
 	}
 
 	@Override
 	public Set<String> getDiscoveredSpecies() {
-		return discoveredSpecies;
+		Set<String> species = new HashSet<>(unknownSpecies);
+		discoveredSpecies.stream().mapToObj(BreedingTrackerIndex::getSpeciesKey).forEach(key -> {
+			if (key != null) {
+				species.add(key);
+			}
+		});
+		return species;
 	}
 
 	@Override
 	public int getSpeciesBred() {
-		return discoveredSpecies.size();
+		return discoveredSpecies.cardinality() + unknownSpecies.size();
 	}
 
 	@Override
@@ -247,34 +333,54 @@ public abstract class BreedingTracker extends SavedData implements IBreedingTrac
 
 	@Override
 	public void registerSpecies(IAlleleSpecies species) {
-		String registryName = species.getRegistryName().toString();
-		if (!discoveredSpecies.contains(registryName)) {
-			discoveredSpecies.add(registryName);
+		int id = BreedingTrackerIndex.getSpeciesId(species);
+		boolean added;
+		if (id >= 0) {
+			added = !discoveredSpecies.get(id);
+			discoveredSpecies.set(id);
+		} else {
+			added = unknownSpecies.add(species.getRegistryName().toString());
+		}
+		if (added) {
+			setDirty();
 
 			IRootDefinition speciesRoot = GeneticsAPI.apiInstance.getRoot(speciesRootUID());
 			ForestryEvent event = new ForestryEvent.SpeciesDiscovered(speciesRoot, username, species, this);
 			MinecraftForge.EVENT_BUS.post(event);
 
-			syncToPlayer(Collections.singleton(registryName), emptyStringCollection, emptyStringCollection);
+			if (id >= 0) {
+				syncToPlayer(singleBit(id), EMPTY_BITS, EMPTY_BITS);
+			}
 		}
 	}
 
 	@Override
 	public void researchMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!researchedMutations.contains(mutationString)) {
-			researchedMutations.add(mutationString);
+		int id = getIndex().getMutationId(mutation);
+		boolean added;
+		if (id >= 0) {
+			added = !researchedMutations.get(id);
+			researchedMutations.set(id);
+		} else {
+			added = unknownResearchedMutations.add(BreedingTrackerIndex.getMutationKey(mutation));
+		}
+		if (added) {
 			setDirty();
 
 			registerMutation(mutation);
 
-			syncToPlayer(emptyStringCollection, emptyStringCollection, Collections.singleton(mutationString));
+			if (id >= 0) {
+				syncToPlayer(EMPTY_BITS, EMPTY_BITS, singleBit(id));
+			}
 		}
 	}
 
 	@Override
 	public boolean isResearched(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return researchedMutations.contains(mutationString);
+		int id = getIndex().getMutationId(mutation);
+		if (id >= 0) {
+			return researchedMutations.get(id);
+		}
+		return unknownResearchedMutations.contains(BreedingTrackerIndex.getMutationKey(mutation));
 	}
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.resources.ResourceLocation;
+
+import genetics.api.GeneticsAPI;
+import genetics.api.alleles.IAllele;
+import genetics.api.alleles.IAlleleSpecies;
+import genetics.api.individual.IIndividual;
+import genetics.api.mutation.IMutation;
+import genetics.api.mutation.IMutationContainer;
+import genetics.api.root.IIndividualRoot;
+import genetics.api.root.IRootDefinition;
+import genetics.api.root.components.ComponentKeys;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+
+/**
+ * Assigns the dense integer ids that {@link BreedingTracker} uses to store its state in bit sets.
+ * <p>
+ * Species use the id of their allele in the allele registry. Mutations use their position in the mutation container
+ * of the root, which only depends on the registration order and is the same on the server and the client.
+ * <p>
+ * The ids are only used at runtime and in packets. Saves keep using the string keys, so they stay valid if the
+ * registered species or mutations change.
+ */
+public class BreedingTrackerIndex {
+	private static final String MUTATION_FORMAT = "%s-%s=%s";
+	private static final Map<String, BreedingTrackerIndex> INDICES = new ConcurrentHashMap<>();
+
+	private final List<? extends IMutation> mutations;
+	private final Map<IMutation, Integer> mutationIds = new IdentityHashMap<>();
+	@Nullable
+	private Map<String, Integer> mutationIdsByKey;
+
+	private BreedingTrackerIndex(List<? extends IMutation> mutations) {
+		this.mutations = mutations;
+		for (int i = 0; i < mutations.size(); i++) {
+			mutationIds.putIfAbsent(mutations.get(i), i);
+		}
+	}
+
+	/**
+	 * @return The index of the root with the given uid. It is created with the first call after the mutations of the
+	 * root have been registered and recreated if the root registers more mutations later.
+	 */
+	public static BreedingTrackerIndex get(String rootUID) {
+		List<? extends IMutation> mutations = getMutations(rootUID);
+		BreedingTrackerIndex index = INDICES.get(rootUID);
+		if (index == null || index.mutations.size() != mutations.size()) {
+			index = new BreedingTrackerIndex(mutations);
+			INDICES.put(rootUID, index);
+		}
+		return index;
+	}
+
+	private static List<? extends IMutation> getMutations(String rootUID) {
+		IRootDefinition<IIndividualRoot<IIndividual>> definition = GeneticsAPI.apiInstance.getRoot(rootUID);
+		if (!definition.isPresent()) {
+			return Collections.emptyList();
+		}
+		IIndividualRoot<IIndividual> root = definition.get();
+		Optional<IMutationContainer<IIndividual, ? extends IMutation>> container = root.getComponentSafe(ComponentKeys.MUTATIONS);
+		return container.isPresent() ? container.get().getMutations(false) : Collections.emptyList();
+	}
+
+	/**
+	 * @return The id of the species, or -1 if the species is not registered.
+	 */
+	public static int getSpeciesId(IAlleleSpecies species) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		return registry == null ? -1 : registry.getId(species);
+	}
+
+	/**
+	 * @return The id of the species with the given registry name, or -1 if there is no such species.
+	 */
+	public static int getSpeciesId(String speciesKey) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		ResourceLocation registryName = ResourceLocation.tryParse(speciesKey);
+		if (registry == null || registryName == null) {
+			return -1;
+		}
+		Optional<IAllele> allele = registry.getAllele(registryName);
+		return allele.isPresent() && allele.get() instanceof IAlleleSpecies ? registry.getId(allele.get()) : -1;
+	}
+
+	@Nullable
+	public static String getSpeciesKey(int id) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		IAllele allele = registry == null ? null : registry.getAllele(id);
+		return allele == null ? null : allele.getRegistryName().toString();
+	}
+
+	/**
+	 * @return The key that is used to save the mutation.
+	 */
+	public static String getMutationKey(IMutation mutation) {
+		String species0 = mutation.getFirstParent().getRegistryName().toString();
+		String species1 = mutation.getSecondParent().getRegistryName().toString();
+		String resultSpecies = mutation.getResultingSpecies().getRegistryName().toString();
+		return String.format(MUTATION_FORMAT, species0, species1, resultSpecies);
+	}
+
+	/**
+	 * @return The id of the mutation, or -1 if the mutation is not registered at the root of this index.
+	 */
+	public int getMutationId(IMutation mutation) {
+		Integer id = mutationIds.get(mutation);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * @return The id of the mutation with the given key, or -1 if there is no such mutation.
+	 */
+	public synchronized int getMutationId(String mutationKey) {
+		if (mutationIdsByKey == null) {
+			mutationIdsByKey = new HashMap<>();
+			for (int i = 0; i < mutations.size(); i++) {
+				mutationIdsByKey.putIfAbsent(getMutationKey(mutations.get(i)), i);
+			}
+		}
+		return mutationIdsByKey.getOrDefault(mutationKey, -1);
+	}
+
+	@Nullable
+	public IMutation getMutation(int id) {
+		return id >= 0 && id < mutations.size() ? mutations.get(id) : null;
+	}
+}
@@ -10,10 +10,6 @@
  ******************************************************************************/
 package forestry.core.gui;
 
-import com.google.common.collect.ImmutableSet;
-
-import javax.annotation.Nullable;
-
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.player.Inventory;
@@ -21,13 +17,12 @@ import net.minecraft.world.Container;
 import net.minecraft.world.inventory.MenuType;
 
 import forestry.api.core.IErrorLogicSource;
-import forestry.api.core.IErrorState;
+import forestry.core.errors.ErrorStateTracker;
 import forestry.core.network.packets.PacketErrorUpdateEntity;
 
 public class ContainerEntity<T extends Entity & Container> extends ContainerForestry {
 	protected final T entity;
-	@Nullable
-	private ImmutableSet<IErrorState> previousErrorStates;
+	private final ErrorStateTracker errorStateTracker = new ErrorStateTracker();
 
 	protected ContainerEntity(int windowId, MenuType<?> type, T entity) {
 		super(windowId, type);
@@ -54,14 +49,10 @@ public class ContainerEntity<T extends Entity & Container> extends ContainerFore
 		super.broadcastChanges();
 
 		if (entity instanceof IErrorLogicSource errorLogicSource) {
-			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
-
-			if (previousErrorStates == null || !errorStates.equals(previousErrorStates)) {
+			if (errorStateTracker.update(errorLogicSource.getErrorLogic())) {
 				PacketErrorUpdateEntity packet = new PacketErrorUpdateEntity(entity, errorLogicSource);
 				sendPacketToListeners(packet);
 			}
-
-			previousErrorStates = errorStates;
 		}
 	}
 }
@@ -10,10 +10,6 @@
  ******************************************************************************/
 package forestry.core.gui;
 
-import com.google.common.collect.ImmutableSet;
-
-import javax.annotation.Nullable;
-
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.MenuType;
@@ -23,7 +19,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import forestry.api.core.IErrorLogicSource;
-import forestry.api.core.IErrorState;
+import forestry.core.errors.ErrorStateTracker;
 import forestry.core.network.packets.PacketErrorUpdate;
 import forestry.core.network.packets.PacketGuiEnergy;
 import forestry.core.network.packets.PacketGuiUpdate;
@@ -35,8 +31,7 @@ import forestry.energy.EnergyManager;
 //TODO: Add needsGuiUpdate() method, so we only send one gui update packet.
 public abstract class ContainerTile<T extends BlockEntity> extends ContainerForestry {
 	protected final T tile;
-	@Nullable
-	private ImmutableSet<IErrorState> previousErrorStates;
+	private final ErrorStateTracker errorStateTracker = new ErrorStateTracker();
 	private int previousEnergyManagerData = 0;
 	private int previousWorkCounter = 0;
 	private int previousTicksPerWorkCycle = 0;
@@ -67,14 +62,10 @@ public abstract class ContainerTile<T extends BlockEntity> extends ContainerFore
 		super.broadcastChanges();
 
 		if (tile instanceof IErrorLogicSource errorLogicSource) {
-			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
-
-			if (!errorStates.equals(previousErrorStates)) {
+			if (errorStateTracker.update(errorLogicSource.getErrorLogic())) {
 				PacketErrorUpdate packet = new PacketErrorUpdate(tile, errorLogicSource);
 				sendPacketToListeners(packet);
 			}
-
-			previousErrorStates = errorStates;
 		}
 
 		if (tile instanceof IPowerHandler) {
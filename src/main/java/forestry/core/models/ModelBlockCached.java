@@ -2,11 +2,19 @@ package forestry.core.models;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.client.resources.model.BakedModel;
@@ -15,10 +23,27 @@ import net.minecraft.world.level.Level;
 
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.client.model.data.EmptyModelData;
 import net.minecraftforge.client.model.data.IModelData;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.core.config.Config;
+import forestry.core.config.Constants;
+
+/**
+ * A block model that keeps the models it baked for the keys of {@link #getWorldKey} and {@link #getInventoryKey}.
+ * <p>
+ * The caches are bounded by {@link #MAX_CACHE_SIZE} and bake every key only once, even if the chunk meshing threads
+ * request it at the same time. They are cleared when the block atlas gets stitched and can be filled right after the
+ * models got baked, see {@link #addWarmUpModels(Map)}.
+ */
 @OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID, value = Dist.CLIENT)
 public abstract class ModelBlockCached<B extends Block, K> extends ModelBlockDefault<B, K> {
+	private static final int MAX_CACHE_SIZE = 1024;
 	private static final Set<ModelBlockCached> CACHE_PROVIDERS = new HashSet<>();
 
 	private final Cache<K, BakedModel> inventoryCache;
@@ -31,36 +56,90 @@ public abstract class ModelBlockCached<B extends Block, K> extends ModelBlockDef
 		}
 	}
 
+	/**
+	 * Bakes the world models of {@link #addWarmUpModels(Map)} of every cached model.
+	 * Has to be called after the block atlas got stitched.
+	 */
+	public static void warmUp() {
+		if (!Config.warmUpModels) {
+			return;
+		}
+		for (ModelBlockCached<?, ?> modelBlockCached : CACHE_PROVIDERS) {
+			modelBlockCached.warmUpModels();
+		}
+	}
+
+	/**
+	 * @return The combined hit, miss and bake time statistics of all caches since the game started.
+	 */
+	public static CacheStats getStats() {
+		CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0);
+		for (ModelBlockCached modelBlockCached : CACHE_PROVIDERS) {
+			stats = stats.plus(modelBlockCached.worldCache.stats()).plus(modelBlockCached.inventoryCache.stats());
+		}
+		return stats;
+	}
+
+	@SubscribeEvent
+	public static void onDebugText(RenderGameOverlayEvent.Text event) {
+		if (!Minecraft.getInstance().options.renderDebug) {
+			return;
+		}
+		CacheStats stats = getStats();
+		event.getRight().add(String.format("Forestry models: %d hits, %d bakes, %.2f ms/bake",
+			stats.hitCount(), stats.missCount(), stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1)));
+	}
+
 	protected ModelBlockCached(Class<B> blockClass) {
 		super(blockClass);
 
-		worldCache = CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
-		inventoryCache = CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
+		worldCache = CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
+		inventoryCache = CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
 
 		CACHE_PROVIDERS.add(this);
 	}
 
+	/**
+	 * Adds the world models that should be baked right after the resource reload, so they don't have to be baked
+	 * while the chunks get meshed.
+	 *
+	 * @param models The keys of the models to the block states to bake them for.
+	 */
+	protected void addWarmUpModels(Map<K, BlockState> models) {
+	}
+
+	private void warmUpModels() {
+		Map<K, BlockState> models = new HashMap<>();
+		addWarmUpModels(models);
+		models.forEach((key, state) -> getCached(worldCache, key,
+			() -> bakeModel(state, key, blockClass.cast(state.getBlock()), EmptyModelData.INSTANCE)));
+	}
+
 	@Override
 	protected BakedModel getModel(BlockState state, IModelData extraData) {
 		K key = getWorldKey(state, extraData);
 
-		BakedModel model = worldCache.getIfPresent(key);
-		if (model == null) {
-			model = super.getModel(state, extraData);
-			worldCache.put(key, model);
-		}
-		return model;
+		return getCached(worldCache, key, () -> super.getModel(state, extraData));
 	}
 
 	@Override
 	protected BakedModel getModel(ItemStack stack, Level world) {
 		K key = getInventoryKey(stack);
 
-		BakedModel model = inventoryCache.getIfPresent(key);
-		if (model == null) {
-			model = bakeModel(stack, world, key);
-			inventoryCache.put(key, model);
+		return getCached(inventoryCache, key, () -> bakeModel(stack, world, key));
+	}
+
+	private static <K> BakedModel getCached(Cache<K, BakedModel> cache, K key, Callable<BakedModel> loader) {
+		try {
+			return cache.get(key, loader);
+		} catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to bake model for key " + key, cause);
 		}
-		return model;
 	}
 }
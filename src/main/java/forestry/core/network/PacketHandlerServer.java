@@ -11,6 +11,7 @@
 package forestry.core.network;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -81,9 +82,23 @@ public class PacketHandlerServer {
 	}
 
 	public static void sendPacket(IForestryPacketClient packet, ServerPlayer player) {
+		player.connection.send(buildPacket(packet));
+	}
+
+	/**
+	 * Serializes the packet once and sends the same payload to all given players.
+	 */
+	public static void sendPacket(IForestryPacketClient packet, Collection<ServerPlayer> players) {
+		Packet<?> payload = buildPacket(packet);
+		for (ServerPlayer player : players) {
+			player.connection.send(payload);
+		}
+	}
+
+	private static Packet<?> buildPacket(IForestryPacketClient packet) {
 		Pair<FriendlyByteBuf, Integer> packetData = packet.getPacketData();
 		ICustomPacket<Packet<?>> payload = NetworkDirection.PLAY_TO_CLIENT.buildPacket(packetData, PacketHandlerServer.CHANNEL_ID);
-		player.connection.send(payload.getThis());
+		return payload.getThis();
 	}
 
 	//	@OnlyIn(Dist.CLIENT)
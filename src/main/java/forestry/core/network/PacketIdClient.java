@@ -35,6 +35,7 @@ public enum PacketIdClient implements IPacketId {
 
 	// Core Tile Entities
 	TILE_FORESTRY_UPDATE,
+	TILE_FORESTRY_UPDATE_BATCH,
 	ITEMSTACK_DISPLAY,
 	FX_SIGNAL,
 	TANK_LEVEL_UPDATE,
@@ -70,6 +71,7 @@ public enum PacketIdClient implements IPacketId {
 
 	// Sorting
 	GUI_UPDATE_FILTER,
+	GUI_FILTER_THROUGHPUT,
 
 	// JEI
 	RECIPE_TRANSFER_UPDATE;
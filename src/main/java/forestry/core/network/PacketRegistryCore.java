@@ -38,6 +38,7 @@ import forestry.core.network.packets.PacketSocketUpdate;
 import forestry.core.network.packets.PacketSolderingIronClick;
 import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.packets.PacketTileStreamBatch;
 
 public class PacketRegistryCore implements IPacketRegistry {
 	@Override
@@ -62,6 +63,7 @@ public class PacketRegistryCore implements IPacketRegistry {
 		PacketIdClient.GUI_ENERGY.setPacketHandler(new PacketGuiEnergy.Handler());
 		PacketIdClient.SOCKET_UPDATE.setPacketHandler(new PacketSocketUpdate.Handler());
 		PacketIdClient.TILE_FORESTRY_UPDATE.setPacketHandler(new PacketTileStream.Handler());
+		PacketIdClient.TILE_FORESTRY_UPDATE_BATCH.setPacketHandler(new PacketTileStreamBatch.Handler());
 		PacketIdClient.TILE_FORESTRY_ACTIVE.setPacketHandler(new PacketActiveUpdate.Handler());
 		PacketIdClient.ITEMSTACK_DISPLAY.setPacketHandler(new PacketItemStackDisplay.Handler());
 		PacketIdClient.FX_SIGNAL.setPacketHandler(new PacketFXSignal.Handler());
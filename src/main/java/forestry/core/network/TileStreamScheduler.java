@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.core.config.Constants;
+import forestry.core.network.packets.PacketTileStreamBatch;
+import forestry.core.utils.NetworkUtil;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Coalesces the stream updates of {@link IStreamable} tiles on the server.
+ * <p>
+ * Tiles are only marked as dirty when they request an update. At the end of the world tick every chunk section with
+ * dirty tiles is sent as one {@link PacketTileStreamBatch} to the players that track the chunk. Multiple updates of
+ * the same tile during one tick result in a single entry that contains the latest state of the tile.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID)
+public class TileStreamScheduler {
+	// World > chunk section > dirty tiles
+	private static final Map<LevelAccessor, Long2ObjectMap<Map<BlockPos, BlockEntity>>> dirtyTiles = new HashMap<>();
+
+	/**
+	 * Schedules a stream update of the given tile for the end of the current tick.
+	 * Does nothing on the client side.
+	 */
+	public static <T extends BlockEntity & IStreamable> void markDirty(T tile) {
+		Level world = tile.getLevel();
+		if (!(world instanceof ServerLevel)) {
+			return;
+		}
+
+		BlockPos pos = tile.getBlockPos();
+		long sectionKey = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+		dirtyTiles.computeIfAbsent(world, k -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(sectionKey, k -> new LinkedHashMap<>())
+				.put(pos, tile);
+	}
+
+	@SubscribeEvent(priority = EventPriority.LOW)
+	public static void onWorldTick(TickEvent.WorldTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || !(event.world instanceof ServerLevel world)) {
+			return;
+		}
+
+		Long2ObjectMap<Map<BlockPos, BlockEntity>> sections = dirtyTiles.get(world);
+		if (sections == null || sections.isEmpty()) {
+			return;
+		}
+
+		for (Long2ObjectMap.Entry<Map<BlockPos, BlockEntity>> entry : sections.long2ObjectEntrySet()) {
+			long sectionKey = entry.getLongKey();
+			Collection<BlockEntity> tiles = entry.getValue().values();
+			tiles.removeIf(BlockEntity::isRemoved);
+			if (tiles.isEmpty()) {
+				continue;
+			}
+
+			ChunkPos chunkPos = new ChunkPos(SectionPos.x(sectionKey), SectionPos.z(sectionKey));
+			List<ServerPlayer> players = NetworkUtil.getPlayersWatching(world, chunkPos);
+			if (!players.isEmpty()) {
+				PacketHandlerServer.sendPacket(new PacketTileStreamBatch(tiles), players);
+			}
+		}
+		sections.clear();
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		dirtyTiles.remove(event.getWorld());
+	}
+}
@@ -11,9 +11,9 @@
 package forestry.core.network.packets;
 
 import java.io.IOException;
+import java.util.BitSet;
 
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.nbt.CompoundTag;
 
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -33,11 +33,25 @@ import genetics.api.GeneticsAPI;
 import genetics.api.individual.IIndividual;
 import genetics.api.root.IRootDefinition;
 
+/**
+ * Syncs the state of a {@link BreedingTracker} as the ids of its set bits. A full sync replaces the state of the
+ * client tracker, otherwise the bits are added to it.
+ */
 public class PacketGenomeTrackerSync extends ForestryPacket implements IForestryPacketClient {
-	private final CompoundTag nbt;
+	private final String rootUID;
+	private final String modeName;
+	private final boolean full;
+	private final BitSet discoveredSpecies;
+	private final BitSet discoveredMutations;
+	private final BitSet researchedMutations;
 
-	public PacketGenomeTrackerSync(CompoundTag CompoundNBT) {
-		this.nbt = CompoundNBT;
+	public PacketGenomeTrackerSync(String rootUID, String modeName, boolean full, BitSet discoveredSpecies, BitSet discoveredMutations, BitSet researchedMutations) {
+		this.rootUID = rootUID;
+		this.modeName = modeName;
+		this.full = full;
+		this.discoveredSpecies = discoveredSpecies;
+		this.discoveredMutations = discoveredMutations;
+		this.researchedMutations = researchedMutations;
 	}
 
 	@Override
@@ -47,24 +61,56 @@ public class PacketGenomeTrackerSync extends ForestryPacket implements IForestry
 
 	@Override
 	protected void writeData(PacketBufferForestry data) {
-		data.writeNbt(nbt);
+		data.writeUtf(rootUID);
+		data.writeUtf(modeName);
+		data.writeBoolean(full);
+		writeBits(data, discoveredSpecies);
+		writeBits(data, discoveredMutations);
+		writeBits(data, researchedMutations);
+	}
+
+	/**
+	 * Writes the set bits as the distances between them, which keeps the ids of a sparse set in one or two bytes.
+	 */
+	private static void writeBits(PacketBufferForestry data, BitSet bits) {
+		data.writeVarInt(bits.cardinality());
+		int previous = 0;
+		for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+			data.writeVarInt(i - previous);
+			previous = i;
+		}
+	}
+
+	private static BitSet readBits(PacketBufferForestry data) {
+		BitSet bits = new BitSet();
+		int count = data.readVarInt();
+		int index = 0;
+		for (int i = 0; i < count; i++) {
+			index += data.readVarInt();
+			bits.set(index);
+		}
+		return bits;
 	}
 
 	@OnlyIn(Dist.CLIENT)
 	public static class Handler implements IForestryPacketHandlerClient {
 		@Override
 		public void onPacketData(PacketBufferForestry data, Player player) throws IOException {
-			CompoundTag nbt = data.readNbt();
-			if (nbt != null) {
-				String type = nbt.getString(BreedingTracker.TYPE_KEY);
+			String rootUID = data.readUtf();
+			String modeName = data.readUtf();
+			boolean full = data.readBoolean();
+			BitSet discoveredSpecies = readBits(data);
+			BitSet discoveredMutations = readBits(data);
+			BitSet researchedMutations = readBits(data);
 
-				IRootDefinition<IForestrySpeciesRoot<IIndividual>> definition = GeneticsAPI.apiInstance.getRoot(type);
-				definition.ifPresent(root -> {
-					IBreedingTracker tracker = root.getBreedingTracker(player.getCommandSenderWorld(), player.getGameProfile());
-					tracker.decodeFromNBT(nbt);
-					MinecraftForge.EVENT_BUS.post(new ForestryEvent.SyncedBreedingTracker(tracker, player));
-				});
-			}
+			IRootDefinition<IForestrySpeciesRoot<IIndividual>> definition = GeneticsAPI.apiInstance.getRoot(rootUID);
+			definition.ifPresent(root -> {
+				IBreedingTracker tracker = root.getBreedingTracker(player.getCommandSenderWorld(), player.getGameProfile());
+				if (tracker instanceof BreedingTracker breedingTracker) {
+					breedingTracker.applySync(modeName, full, discoveredSpecies, discoveredMutations, researchedMutations);
+				}
+				MinecraftForge.EVENT_BUS.post(new ForestryEvent.SyncedBreedingTracker(tracker, player));
+			});
 		}
 	}
 }
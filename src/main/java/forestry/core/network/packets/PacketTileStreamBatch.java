@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IForestryPacketHandlerClient;
+import forestry.core.network.IStreamable;
+import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.PacketIdClient;
+import forestry.core.tiles.TileUtil;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * Contains the stream data of several tiles of the same chunk section.
+ * Every entry is prefixed with its length so the client can skip tiles that it does not know.
+ */
+public class PacketTileStreamBatch extends ForestryPacket implements IForestryPacketClient {
+	private final Collection<BlockEntity> tiles;
+
+	/**
+	 * @param tiles the tiles to sync, all of them have to implement {@link IStreamable}
+	 */
+	public PacketTileStreamBatch(Collection<BlockEntity> tiles) {
+		this.tiles = tiles;
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.TILE_FORESTRY_UPDATE_BATCH;
+	}
+
+	@Override
+	protected void writeData(PacketBufferForestry data) {
+		data.writeVarInt(tiles.size());
+		PacketBufferForestry tileData = new PacketBufferForestry(Unpooled.buffer());
+		for (BlockEntity tile : tiles) {
+			tileData.clear();
+			((IStreamable) tile).writeData(tileData);
+
+			data.writeBlockPos(tile.getBlockPos());
+			data.writeVarInt(tileData.readableBytes());
+			data.writeBytes(tileData);
+		}
+		tileData.release();
+	}
+
+	@OnlyIn(Dist.CLIENT)
+	public static class Handler implements IForestryPacketHandlerClient {
+		@Override
+		public void onPacketData(PacketBufferForestry data, Player player) throws IOException {
+			int count = data.readVarInt();
+			for (int i = 0; i < count; i++) {
+				BlockPos pos = data.readBlockPos();
+				int length = data.readVarInt();
+				PacketBufferForestry tileData = new PacketBufferForestry(data.readSlice(length));
+				IStreamable tile = TileUtil.getTile(player.level, pos, IStreamable.class);
+				if (tile != null) {
+					tile.readData(tileData);
+				}
+			}
+		}
+	}
+}
@@ -35,6 +35,7 @@ import forestry.core.fluids.ForestryFluids;
 import forestry.core.items.definitions.EnumContainerType;
 import forestry.core.models.ClientManager;
 import forestry.core.models.FluidContainerModel;
+import forestry.core.models.ModelBlockCached;
 import forestry.core.render.RenderAnalyzer;
 import forestry.core.render.RenderEscritoire;
 import forestry.core.render.RenderMachine;
@@ -77,6 +78,7 @@ public class ProxyRenderClient extends ProxyRender implements IClientModuleHandl
 	@Override
 	public void bakeModels(ModelBakeEvent event) {
 		ClientManager.getInstance().onBakeModels(event);
+		ModelBlockCached.warmUp();
 	}
 
 	@Override
@@ -46,9 +46,8 @@ import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
-import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.TileStreamScheduler;
 import forestry.core.utils.NBTUtilForestry;
-import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.TickHelper;
 
 public abstract class TileForestry extends BlockEntity implements IStreamable, IErrorLogicSource, WorldlyContainer, IFilterSlotDelegate, ITitled, ILocatable, MenuProvider {
@@ -146,8 +145,7 @@ public abstract class TileForestry extends BlockEntity implements IStreamable, I
 
 	/* INetworkedEntity */
 	protected final void sendNetworkUpdate() {
-		PacketTileStream packet = new PacketTileStream(this);
-		NetworkUtil.sendNetworkPacket(packet, worldPosition, level);
+		TileStreamScheduler.markDirty(this);
 	}
 
 	/* IStreamable */
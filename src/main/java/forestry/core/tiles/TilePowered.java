@@ -14,6 +14,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -41,6 +42,7 @@ import forestry.energy.EnergyTransferMode;
 public abstract class TilePowered extends TileBase implements IRenderableTile, ISpeedUpgradable, IStreamableGui {
 
 	private static final int WORK_TICK_INTERVAL = 5; // one Forestry work tick happens every WORK_TICK_INTERVAL game ticks
+	private static final int SLEEP_DELAY = 8; // the number of idle work ticks before this tile stops looking for work
 
 	private final EnergyManager energyManager;
 
@@ -54,10 +56,15 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 	// the number of work ticks that this tile has had no power
 	private int noPowerTime = 0;
 
+	// the number of work ticks that this tile has had no work or was disabled by redstone
+	private int idleTime = 0;
+	private boolean sleeping;
+
 	protected TilePowered(BlockEntityType<?> type, BlockPos pos, BlockState state, int maxTransfer, int capacity) {
 		super(type, pos, state);
 		this.energyManager = new EnergyManager(maxTransfer, capacity);
 		this.energyManager.setExternalMode(EnergyTransferMode.RECEIVE);
+		this.energyManager.setChangeListener(this::wakeUp);
 
 		this.ticksPerWorkCycle = 4;
 	}
@@ -101,11 +108,33 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 
 	public abstract boolean hasWork();
 
+	/**
+	 * @return true if this tile has been idle for a while and doesn't check for work until {@link #wakeUp()} is called.
+	 */
+	public boolean isSleeping() {
+		return sleeping;
+	}
+
+	/**
+	 * Lets a sleeping tile check for work again.
+	 * Called whenever the inventory, the tanks, the stored energy or a neighbor of this tile changes.
+	 */
+	public void wakeUp() {
+		sleeping = false;
+		idleTime = 0;
+	}
+
+	private void onIdle() {
+		if (++idleTime >= SLEEP_DELAY) {
+			sleeping = true;
+		}
+	}
+
 	@Override
 	protected void updateServerSide() {
 		super.updateServerSide();
 
-		if (!updateOnInterval(WORK_TICK_INTERVAL)) {
+		if (sleeping || !updateOnInterval(WORK_TICK_INTERVAL)) {
 			return;
 		}
 
@@ -114,12 +143,15 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 		boolean disabled = isRedstoneActivated();
 		errorLogic.setCondition(disabled, EnumErrorCode.DISABLED_BY_REDSTONE);
 		if (disabled) {
+			onIdle();
 			return;
 		}
 
 		if (!hasWork()) {
+			onIdle();
 			return;
 		}
+		idleTime = 0;
 
 		int ticksPerWorkCycle = getTicksPerWorkCycle();
 
@@ -156,6 +188,18 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 		return workCounter * i / ticksPerWorkCycle;
 	}
 
+	@Override
+	public void setChanged() {
+		super.setChanged();
+		wakeUp();
+	}
+
+	@Override
+	public void onNeighborTileChange(Level world, BlockPos pos, BlockPos neighbor) {
+		super.onNeighborTileChange(world, pos, neighbor);
+		wakeUp();
+	}
+
 	@Override
 	public void saveAdditional(CompoundTag nbt) {
 		super.saveAdditional(nbt);
@@ -189,6 +233,7 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 		speedMultiplier += speedChange;
 		powerMultiplier += powerChange;
 		workCounter = 0;
+		wakeUp();
 	}
 
 	/* IRenderableTile */
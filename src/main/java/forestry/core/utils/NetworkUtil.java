@@ -10,6 +10,10 @@
  ******************************************************************************/
 package forestry.core.utils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import com.google.common.base.Preconditions;
 
 import net.minecraft.client.Minecraft;
@@ -18,6 +22,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.server.level.ServerLevel;
 
@@ -30,27 +35,41 @@ import forestry.core.network.IForestryPacketServer;
 import forestry.core.network.PacketHandlerClient;
 import forestry.core.network.PacketHandlerServer;
 
-//import net.minecraft.server.management.PlayerChunkMap;
-
 public class NetworkUtil {
 	public static <P extends IForestryPacketClient> void sendNetworkPacket(P packet, BlockPos pos, Level world) {
 		if (!(world instanceof ServerLevel worldServer)) {
 			return;
 		}
 
-		//		PlayerChunkMap playerManager = worldServer.getPlayerChunkMap();
+		List<ServerPlayer> players = getPlayersWatching(worldServer, pos);
+		if (!players.isEmpty()) {
+			PacketHandlerServer.sendPacket(packet, players);
+		}
+	}
 
-		//		int chunkX = pos.getX() >> 4;
-		//		int chunkZ = pos.getZ() >> 4;
+	/**
+	 * @return all real players whose view distance tracks the chunk that contains the given position.
+	 */
+	public static List<ServerPlayer> getPlayersWatching(ServerLevel world, BlockPos pos) {
+		return getPlayersWatching(world, new ChunkPos(pos));
+	}
 
-		for (Player playerObj : world.players()) {
-			if (playerObj instanceof ServerPlayer player) {
+	/**
+	 * @return all real players whose view distance tracks the given chunk.
+	 */
+	public static List<ServerPlayer> getPlayersWatching(ServerLevel world, ChunkPos chunkPos) {
+		List<ServerPlayer> watching = world.getChunkSource().chunkMap.getPlayers(chunkPos, false);
+		if (watching.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-				if (true) {//TODO packet spam - playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
-					sendToPlayer(packet, player);
-				}
+		List<ServerPlayer> players = new ArrayList<>(watching.size());
+		for (ServerPlayer player : watching) {
+			if (!(player instanceof FakePlayer)) {
+				players.add(player);
 			}
 		}
+		return players;
 	}
 
 	public static void sendToPlayer(IForestryPacketClient packet, Player PlayerEntity) {
@@ -10,7 +10,18 @@ public final class TickHelper {
 		tickCount++;
 	}
 
+	public void onTicks(int ticks) {
+		tickCount += ticks;
+	}
+
 	public boolean updateOnInterval(int tickInterval) {
 		return tickCount % tickInterval == 0;
 	}
+
+	/**
+	 * @return true if the interval was reached during the last {@code ticks} ticks.
+	 */
+	public boolean updateOnInterval(int tickInterval, int ticks) {
+		return tickCount / tickInterval != (tickCount - ticks) / tickInterval;
+	}
 }
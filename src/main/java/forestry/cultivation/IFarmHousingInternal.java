@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import forestry.api.farming.FarmDirection;
 import forestry.api.farming.IFarmHousing;
@@ -20,7 +21,12 @@ public interface IFarmHousingInternal extends IFarmHousing, ILiquidTankTile {
 	@Override
 	IFarmInventoryInternal getFarmInventory();
 
-	void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets);
+	/**
+	 * Creates the targets of the farm.
+	 *
+	 * @param targetArea Receives the areas of the world that the created targets depend on.
+	 */
+	void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea);
 
 	BlockPos getTopCoord();
 }
@@ -24,6 +24,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.LazyOptional;
@@ -147,7 +148,7 @@ public abstract class TilePlanter extends TilePowered implements IFarmHousingInt
 	}
 
 	@Override
-	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets) {
+	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea) {
 		BlockPos targetStart = getCoords();
 		BlockPos minPos = worldPosition;
 		BlockPos maxPos = worldPosition;
@@ -162,8 +163,8 @@ public abstract class TilePlanter extends TilePowered implements IFarmHousingInt
 			extend--;
 		}
 
-		FarmHelper.createTargets(level, this, targets, targetStart, extend, size, size, minPos, maxPos);
-		FarmHelper.setExtents(level, this, targets);
+		FarmHelper.createTargets(level, this, targets, targetArea, targetStart, extend, size, size, minPos, maxPos);
+		FarmHelper.setExtents(level, this, targets, targetArea);
 	}
 
 	@Override
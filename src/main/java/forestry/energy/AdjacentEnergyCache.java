@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.energy;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.energy.CapabilityEnergy;
+import net.minecraftforge.energy.IEnergyStorage;
+
+import forestry.core.config.Config;
+import forestry.core.tiles.AdjacentTileCache;
+import forestry.energy.tiles.TileEngine;
+
+/**
+ * Caches the energy storage of the tile on one side of a tile entity.
+ * <p>
+ * The storage is resolved again when the adjacent tile changes or its energy capability gets invalidated.
+ * Engines are resolved to their {@link EnergyManager}, so they can be chained.
+ */
+public final class AdjacentEnergyCache implements AdjacentTileCache.ICacheListener {
+	private final AdjacentTileCache cache;
+	private boolean changed = true;
+	@Nullable
+	private Direction side;
+	@Nullable
+	private BlockEntity tile;
+	@Nullable
+	private IEnergyStorage energyStorage;
+
+	public AdjacentEnergyCache(AdjacentTileCache cache) {
+		this.cache = cache;
+		cache.addListener(this);
+	}
+
+	/**
+	 * @return The tile on the given side, if it is an engine or has an energy storage.
+	 */
+	@Nullable
+	public BlockEntity getTile(Direction side) {
+		checkChanged(side);
+		return tile;
+	}
+
+	@Nullable
+	public IEnergyStorage getEnergyStorage(Direction side) {
+		checkChanged(side);
+		return energyStorage;
+	}
+
+	@Override
+	public void changed() {
+		changed = true;
+	}
+
+	@Override
+	public void purge() {
+		tile = null;
+		energyStorage = null;
+	}
+
+	private void checkChanged(Direction side) {
+		BlockEntity adjacentTile = cache.getTileOnSide(side);
+		if (!changed && this.side == side) {
+			return;
+		}
+		changed = false;
+		this.side = side;
+		purge();
+		if (adjacentTile instanceof TileEngine engine) { // engine chaining
+			tile = engine;
+			energyStorage = engine.getEnergyManager();
+		} else if (adjacentTile != null && Config.enableRF) {
+			LazyOptional<IEnergyStorage> capability = adjacentTile.getCapability(CapabilityEnergy.ENERGY, side.getOpposite());
+			if (capability.isPresent()) {
+				tile = adjacentTile;
+				energyStorage = capability.orElse(null);
+				capability.addListener(invalidated -> changed = true);
+			}
+		}
+	}
+}
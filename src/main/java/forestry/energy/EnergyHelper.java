@@ -65,6 +65,25 @@ public class EnergyHelper {
 		return 0;
 	}
 
+	/**
+	 * Sends amount of energy to the energy storage.
+	 * For power sources.
+	 *
+	 * @return amount sent
+	 */
+	public static int sendEnergy(EnergyManager energyManager, @Nullable IEnergyStorage target, int amount, boolean simulate) {
+		if (target == null) {
+			return 0;
+		}
+		int extractable = energyManager.extractEnergy(amount, true);
+		if (extractable > 0) {
+			final int sent = target.receiveEnergy(extractable, simulate);
+			energyManager.extractEnergy(sent, simulate);
+			return sent;
+		}
+		return 0;
+	}
+
 	private static int sendEnergyToTile(@Nullable BlockEntity tile, Direction side, int extractable, boolean simulate) {
 		if (tile == null) {
 			return 0;
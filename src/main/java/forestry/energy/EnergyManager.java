@@ -1,5 +1,7 @@
 package forestry.energy;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.util.Mth;
 
@@ -18,6 +20,8 @@ import forestry.energy.compat.EnergyStorageWrapper;
 
 public class EnergyManager extends EnergyStorage implements IStreamable, INbtReadable, INbtWritable {
 	private EnergyTransferMode externalMode = EnergyTransferMode.BOTH;
+	@Nullable
+	private Runnable changeListener;
 
 	public EnergyManager(int maxTransfer, int capacity) {
 		super(EnergyHelper.scaleForDifficulty(capacity), EnergyHelper.scaleForDifficulty(maxTransfer), EnergyHelper.scaleForDifficulty(maxTransfer));
@@ -31,6 +35,28 @@ public class EnergyManager extends EnergyStorage implements IStreamable, INbtRea
 		return externalMode;
 	}
 
+	/**
+	 * Sets a listener that gets notified whenever energy is received or generated.
+	 */
+	public void setChangeListener(@Nullable Runnable changeListener) {
+		this.changeListener = changeListener;
+	}
+
+	private void onEnergyAdded() {
+		if (changeListener != null) {
+			changeListener.run();
+		}
+	}
+
+	@Override
+	public int receiveEnergy(int maxReceive, boolean simulate) {
+		int received = super.receiveEnergy(maxReceive, simulate);
+		if (!simulate && received > 0) {
+			onEnergyAdded();
+		}
+		return received;
+	}
+
 	@Override
 	public void read(CompoundTag nbt) {
 		final int energy;
@@ -78,6 +104,9 @@ public class EnergyManager extends EnergyStorage implements IStreamable, INbtRea
 	 */
 	public void generateEnergy(int amount) {
 		setEnergyStored(energy + amount);
+		if (amount > 0) {
+			onEnergyAdded();
+		}
 	}
 
 	public void setEnergyStored(int energyStored) {
@@ -24,6 +24,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.energy.IEnergyStorage;
 
 import forestry.api.core.IErrorLogic;
 import forestry.core.blocks.BlockBase;
@@ -36,12 +37,14 @@ import forestry.core.tiles.IActivatable;
 import forestry.core.tiles.TemperatureState;
 import forestry.core.tiles.TileBase;
 import forestry.core.utils.NetworkUtil;
+import forestry.energy.AdjacentEnergyCache;
 import forestry.energy.EnergyHelper;
 import forestry.energy.EnergyManager;
 import forestry.energy.EnergyTransferMode;
 
 public abstract class TileEngine extends TileBase implements IActivatable, IStreamableGui {
 	private static final int CANT_SEND_ENERGY_TIME = 20;
+	private static final int MAX_CHAIN_LENGTH = 64;
 
 	private boolean active = false; // Used for smp.
 	private int cantSendEnergyCountdown = CANT_SEND_ENERGY_TIME;
@@ -61,6 +64,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 	protected boolean forceCooldown = false;
 	public float progress;
 	protected final EnergyManager energyManager;
+	private final AdjacentEnergyCache energyCache;
 	private final String hintKey;
 
 	protected TileEngine(BlockEntityType<?> type, BlockPos pos, BlockState state, String hintKey, int maxHeat, int maxEnergy) {
@@ -70,6 +74,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		energyManager = new EnergyManager(2000, maxEnergy);
 
 		energyManager.setExternalMode(EnergyTransferMode.EXTRACT);
+		energyCache = new AdjacentEnergyCache(getTileCache());
 	}
 
 	public String getHintKey() {
@@ -123,10 +128,8 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		boolean enabledRedstone = isRedstoneActivated();
 		errorLogic.setCondition(!enabledRedstone, EnumErrorCode.NO_REDSTONE);
 
-		// Determine targeted tile
-		BlockState blockState = level.getBlockState(getBlockPos());
-		Direction facing = blockState.getValue(BlockBase.FACING);
-		BlockEntity tile = level.getBlockEntity(getBlockPos().relative(facing));
+		// Determine targeted energy storage
+		IEnergyStorage target = getEnergyTarget();
 
 		float newPistonSpeed = getPistonSpeed();
 		if (newPistonSpeed != pistonSpeedServer) {
@@ -138,7 +141,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 
 			progress += pistonSpeedServer;
 
-			EnergyHelper.sendEnergy(energyManager, facing, tile);
+			EnergyHelper.sendEnergy(energyManager, target, Integer.MAX_VALUE, false);
 
 			if (progress > 0.25 && stagePiston == 1) {
 				stagePiston = 2;
@@ -146,8 +149,8 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 				progress = 0;
 				stagePiston = 0;
 			}
-		} else if (enabledRedstone && EnergyHelper.isEnergyReceiverOrEngine(facing.getOpposite(), tile)) {
-			if (EnergyHelper.canSendEnergy(energyManager, facing, tile)) {
+		} else if (enabledRedstone && target != null && target.canReceive()) {
+			if (EnergyHelper.sendEnergy(energyManager, target, Integer.MAX_VALUE, true) > 0) {
 				stagePiston = 1; // If we can transfer energy, start running
 				setActive(true);
 				cantSendEnergyCountdown = CANT_SEND_ENERGY_TIME;
@@ -173,6 +176,37 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		}
 	}
 
+	private Direction getEngineFacing() {
+		return getBlockState().getValue(BlockBase.FACING);
+	}
+
+	/**
+	 * Engines that face another engine deliver their energy straight to the receiver at the end of the chain, instead
+	 * of relaying it through the energy buffer of every engine in between. If the chain doesn't end at a receiver,
+	 * the energy is sent to the next engine as before.
+	 */
+	@Nullable
+	private IEnergyStorage getEnergyTarget() {
+		Direction facing = getEngineFacing();
+		IEnergyStorage target = energyCache.getEnergyStorage(facing);
+		if (!(energyCache.getTile(facing) instanceof TileEngine nextEngine)) {
+			return target;
+		}
+
+		TileEngine engine = nextEngine;
+		for (int i = 0; i < MAX_CHAIN_LENGTH && engine != this; i++) {
+			Direction engineFacing = engine.getEngineFacing();
+			BlockEntity engineTarget = engine.energyCache.getTile(engineFacing);
+			if (engineTarget instanceof TileEngine followingEngine) {
+				engine = followingEngine;
+			} else {
+				IEnergyStorage receiver = engine.energyCache.getEnergyStorage(engineFacing);
+				return receiver != null ? receiver : target;
+			}
+		}
+		return target;
+	}
+
 	@Override
 	public boolean isActive() {
 		return active;
@@ -18,35 +18,101 @@ import net.minecraftforge.fml.DistExecutor;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class AbstractCraftingProvider<T extends IForestryRecipe> implements ICraftingProvider<T> {
+	private static final Set<AbstractCraftingProvider<?>> PROVIDERS = Collections.newSetFromMap(new WeakHashMap<>());
 
 	private final RecipeType<T> type;
 	private final List<T> globalRecipes = new ArrayList<>();
+	// Recipe manager > combined recipes and their indices. Weak keys, so a reloaded recipe manager drops its cache.
+	private final Map<RecipeManager, RecipeCache<T>> caches = new WeakHashMap<>();
 
 	public AbstractCraftingProvider(RecipeType<T> type) {
 		this.type = type;
+		synchronized (PROVIDERS) {
+			PROVIDERS.add(this);
+		}
 	}
 
 	@Override
 	public boolean addRecipe(T recipe) {
-		return globalRecipes.add(recipe);
+		boolean added = globalRecipes.add(recipe);
+		invalidateCache();
+		return added;
 	}
 
 	@Override
 	public Stream<T> getRecipes(@Nullable RecipeManager recipeManager) {
-		recipeManager = adjust(recipeManager);
+		return getRecipeList(recipeManager).stream();
+	}
+
+	/**
+	 * @return all global and data pack recipes of this provider, without duplicates and with the global recipes first
+	 */
+	protected List<T> getRecipeList(@Nullable RecipeManager recipeManager) {
+		return getCache(recipeManager).recipes;
+	}
+
+	/**
+	 * Returns the index of this provider's recipes for the given key function. The index is built on first use and
+	 * kept until the recipes of the recipe manager change.
+	 *
+	 * @param keyFunction returns the keys of a recipe, or null if the recipe accepts any key.
+	 *                    Has to be the same instance on every call.
+	 */
+	protected <K> RecipeIndex<T, K> getIndex(@Nullable RecipeManager recipeManager, Function<T, Collection<K>> keyFunction) {
+		RecipeCache<T> cache = getCache(recipeManager);
+		@SuppressWarnings("unchecked")
+		RecipeIndex<T, K> index = (RecipeIndex<T, K>) cache.indices.computeIfAbsent(keyFunction, k -> new RecipeIndex<>(cache.recipes, keyFunction));
+		return index;
+	}
+
+	private RecipeCache<T> getCache(@Nullable RecipeManager recipeManager) {
+		RecipeManager manager = adjust(recipeManager);
+		synchronized (caches) {
+			return caches.computeIfAbsent(manager, this::createCache);
+		}
+	}
+
+	private RecipeCache<T> createCache(RecipeManager recipeManager) {
 		List<T> recipes = recipeManager.getAllRecipesFor(type);
 		if (globalRecipes.isEmpty()) {
-			return recipes.stream();
+			return new RecipeCache<>(List.copyOf(recipes));
 		}
 		if (recipes.isEmpty()) {
-			return globalRecipes.stream();
+			return new RecipeCache<>(List.copyOf(globalRecipes));
+		}
+		Set<T> combined = new LinkedHashSet<>(globalRecipes);
+		combined.addAll(recipes);
+		return new RecipeCache<>(List.copyOf(combined));
+	}
+
+	private void invalidateCache() {
+		synchronized (caches) {
+			caches.clear();
+		}
+	}
+
+	/**
+	 * Drops the cached recipes and indices of all providers.
+	 * Has to be called if the recipes of an existing recipe manager get replaced, like it happens on the client.
+	 */
+	public static void invalidateCaches() {
+		synchronized (PROVIDERS) {
+			for (AbstractCraftingProvider<?> provider : PROVIDERS) {
+				provider.invalidateCache();
+			}
 		}
-		return Stream.concat(globalRecipes.stream(), recipes.stream())
-				.distinct();
 	}
 
 	/**
@@ -63,4 +129,12 @@ public class AbstractCraftingProvider<T extends IForestryRecipe> implements ICra
 		}
 	}
 
+	private static class RecipeCache<T> {
+		private final List<T> recipes;
+		private final Map<Function<T, ?>, RecipeIndex<T, ?>> indices = new ConcurrentHashMap<>();
+
+		private RecipeCache(List<T> recipes) {
+			this.recipes = recipes;
+		}
+	}
 }
@@ -11,17 +11,21 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 
 import net.minecraftforge.fluids.FluidStack;
 
@@ -29,6 +33,8 @@ import forestry.api.recipes.ICarpenterManager;
 import forestry.api.recipes.ICarpenterRecipe;
 
 public class CarpenterRecipeManager extends AbstractCraftingProvider<ICarpenterRecipe> implements ICarpenterManager {
+	private static final Function<ICarpenterRecipe, Collection<Fluid>> FLUID_KEYS = recipe -> RecipeIndex.getFluidKeys(recipe.getFluidResource());
+	private static final Function<ICarpenterRecipe, Collection<Item>> BOX_KEYS = recipe -> RecipeIndex.getItemKeys(recipe.getBox());
 
 	public CarpenterRecipeManager() {
 		super(ICarpenterRecipe.TYPE);
@@ -50,7 +56,7 @@ public class CarpenterRecipeManager extends AbstractCraftingProvider<ICarpenterR
 
 	@Override
 	public Optional<ICarpenterRecipe> findMatchingRecipe(@Nullable RecipeManager recipeManager, FluidStack liquid, ItemStack item, Container inventory, Level world) {
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, FLUID_KEYS).getCandidates(liquid.getFluid()).stream()
 				.filter(recipe -> matches(recipe, liquid, item, inventory, world))
 				.findFirst();
 	}
@@ -83,7 +89,7 @@ public class CarpenterRecipeManager extends AbstractCraftingProvider<ICarpenterR
 			return false;
 		}
 
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, BOX_KEYS).getCandidates(resource.getItem()).stream()
 				.anyMatch(recipe -> {
 					Ingredient box = recipe.getBox();
 					return box.test(resource);
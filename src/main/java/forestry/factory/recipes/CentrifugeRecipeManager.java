@@ -11,9 +11,12 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -24,6 +27,7 @@ import forestry.api.recipes.ICentrifugeRecipe;
 import forestry.api.recipes.IForestryRecipe;
 
 public class CentrifugeRecipeManager extends AbstractCraftingProvider<ICentrifugeRecipe> implements ICentrifugeManager {
+	private static final Function<ICentrifugeRecipe, Collection<Item>> ITEM_KEYS = recipe -> RecipeIndex.getItemKeys(recipe.getInput());
 
 	public CentrifugeRecipeManager() {
 		super(ICentrifugeRecipe.TYPE);
@@ -47,7 +51,7 @@ public class CentrifugeRecipeManager extends AbstractCraftingProvider<ICentrifug
 			return Optional.empty();
 		}
 
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(itemStack.getItem()).stream()
 				.filter(recipe -> {
 					Ingredient recipeInput = recipe.getInput();
 					return recipeInput.test(itemStack);
@@ -11,11 +11,14 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -29,6 +32,7 @@ import forestry.api.recipes.IFermenterRecipe;
 import forestry.api.recipes.IForestryRecipe;
 
 public class FermenterRecipeManager extends AbstractCraftingProvider<IFermenterRecipe> implements IFermenterManager {
+	private static final Function<IFermenterRecipe, Collection<Item>> ITEM_KEYS = recipe -> RecipeIndex.getItemKeys(recipe.getResource());
 
 	public FermenterRecipeManager() {
 		super(IFermenterRecipe.TYPE);
@@ -60,7 +64,7 @@ public class FermenterRecipeManager extends AbstractCraftingProvider<IFermenterR
 			return false;
 		}
 
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(resource.getItem()).stream()
 				.anyMatch(recipe -> recipe.getResource().test(resource));
 	}
 
@@ -69,7 +73,7 @@ public class FermenterRecipeManager extends AbstractCraftingProvider<IFermenterR
 		if (res.isEmpty()) {
 			return Optional.empty();
 		}
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(res.getItem()).stream()
 				.filter(recipe -> matches(recipe, res, liqu))
 				.findFirst();
 	}
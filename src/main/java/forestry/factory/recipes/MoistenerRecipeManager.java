@@ -11,7 +11,11 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -20,9 +24,8 @@ import forestry.api.recipes.IForestryRecipe;
 import forestry.api.recipes.IMoistenerManager;
 import forestry.api.recipes.IMoistenerRecipe;
 
-import java.util.Optional;
-
 public class MoistenerRecipeManager extends AbstractCraftingProvider<IMoistenerRecipe> implements IMoistenerManager {
+	private static final Function<IMoistenerRecipe, Collection<Item>> ITEM_KEYS = recipe -> RecipeIndex.getItemKeys(recipe.getResource());
 
 	public MoistenerRecipeManager() {
 		super(IMoistenerRecipe.TYPE);
@@ -39,13 +42,13 @@ public class MoistenerRecipeManager extends AbstractCraftingProvider<IMoistenerR
 			return false;
 		}
 
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(resource.getItem()).stream()
 				.anyMatch(recipe -> recipe.getResource().test(resource));
 	}
 
 	@Override
 	public Optional<IMoistenerRecipe> findMatchingRecipe(@Nullable RecipeManager recipeManager, ItemStack item) {
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(item.getItem()).stream()
 				.filter(recipe -> recipe.getResource().test(item))
 				.findFirst();
 	}
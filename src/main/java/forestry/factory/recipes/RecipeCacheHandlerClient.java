@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.factory.recipes;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.core.config.Constants;
+
+/**
+ * The client keeps its recipe manager when the server sends new recipes or tags, so the cached recipes and indices of
+ * the crafting providers have to be dropped manually. A reload on the server creates a new recipe manager instead.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID, value = Dist.CLIENT)
+public class RecipeCacheHandlerClient {
+	@SubscribeEvent
+	public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+		AbstractCraftingProvider.invalidateCaches();
+	}
+
+	@SubscribeEvent
+	public static void onTagsUpdated(TagsUpdatedEvent event) {
+		AbstractCraftingProvider.invalidateCaches();
+	}
+}
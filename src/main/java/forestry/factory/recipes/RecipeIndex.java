@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.factory.recipes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.material.Fluid;
+
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * An immutable lookup table from a key (like an item or a fluid) to the recipes that could possibly accept it.
+ * <p>
+ * Recipes whose keys can't be determined up front are added to every bucket, so a lookup never misses a recipe that
+ * a linear scan would have found. All returned lists keep the order of the source list, so the first candidate that
+ * matches is the same recipe that a linear scan would have returned.
+ * <p>
+ * Instances are created and cached by {@link AbstractCraftingProvider#getIndex}.
+ *
+ * @param <T> the type of the indexed recipes
+ * @param <K> the type of the key
+ */
+public class RecipeIndex<T, K> {
+	private final Map<T, Integer> positions = new IdentityHashMap<>();
+	private final Map<K, List<T>> buckets = new HashMap<>();
+	private final List<T> unkeyed = new ArrayList<>();
+
+	/**
+	 * @param recipes     all recipes of the provider in their lookup order
+	 * @param keyFunction returns the keys of a recipe, or null if the recipe can accept any key
+	 */
+	RecipeIndex(List<T> recipes, Function<T, Collection<K>> keyFunction) {
+		List<Collection<K>> recipeKeys = new ArrayList<>(recipes.size());
+		for (T recipe : recipes) {
+			Collection<K> keys = keyFunction.apply(recipe);
+			recipeKeys.add(keys);
+			if (keys != null) {
+				for (K key : keys) {
+					buckets.putIfAbsent(key, new ArrayList<>());
+				}
+			}
+		}
+
+		for (int i = 0; i < recipes.size(); i++) {
+			T recipe = recipes.get(i);
+			Collection<K> keys = recipeKeys.get(i);
+			positions.put(recipe, i);
+			if (keys == null) {
+				unkeyed.add(recipe);
+				for (List<T> bucket : buckets.values()) {
+					bucket.add(recipe);
+				}
+			} else {
+				for (K key : keys) {
+					List<T> bucket = buckets.get(key);
+					// a recipe can name the same key more than once
+					if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != recipe) {
+						bucket.add(recipe);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return all recipes that could accept the given key
+	 */
+	public List<T> getCandidates(K key) {
+		return Collections.unmodifiableList(buckets.getOrDefault(key, unkeyed));
+	}
+
+	/**
+	 * @return all recipes that could accept at least one of the given keys, in lookup order
+	 */
+	public List<T> getCandidates(Collection<K> keys) {
+		if (keys.size() == 1) {
+			return getCandidates(keys.iterator().next());
+		}
+
+		Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+		candidates.addAll(unkeyed);
+		for (K key : keys) {
+			List<T> bucket = buckets.get(key);
+			if (bucket != null) {
+				candidates.addAll(bucket);
+			}
+		}
+
+		List<T> sorted = new ArrayList<>(candidates);
+		sorted.sort((first, second) -> Integer.compare(positions.get(first), positions.get(second)));
+		return sorted;
+	}
+
+	/**
+	 * Creates the item keys of the given ingredients.
+	 *
+	 * @return the items that can match one of the ingredients, or null if an ingredient can't be enumerated.
+	 */
+	@Nullable
+	public static Collection<Item> getItemKeys(Collection<Ingredient> ingredients) {
+		Set<Item> items = new HashSet<>();
+		for (Ingredient ingredient : ingredients) {
+			if (ingredient.isEmpty() || !ingredient.isSimple()) {
+				return null;
+			}
+			for (ItemStack stack : ingredient.getItems()) {
+				items.add(stack.getItem());
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * @see #getItemKeys(Collection)
+	 */
+	@Nullable
+	public static Collection<Item> getItemKeys(Ingredient ingredient) {
+		return getItemKeys(Collections.singletonList(ingredient));
+	}
+
+	/**
+	 * @return the fluid of the given stack, or null if the recipe accepts any fluid.
+	 */
+	@Nullable
+	public static Collection<Fluid> getFluidKeys(FluidStack fluid) {
+		if (fluid.isEmpty()) {
+			return null;
+		}
+		return Collections.singletonList(fluid.getFluid());
+	}
+}
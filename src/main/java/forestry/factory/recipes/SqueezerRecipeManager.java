@@ -11,7 +11,12 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -27,6 +32,7 @@ import forestry.core.utils.ItemStackUtil;
 import java.util.Optional;
 
 public class SqueezerRecipeManager extends AbstractCraftingProvider<ISqueezerRecipe> implements ISqueezerManager {
+	private static final Function<ISqueezerRecipe, Collection<Item>> ITEM_KEYS = recipe -> RecipeIndex.getItemKeys(recipe.getResources());
 
 	public SqueezerRecipeManager() {
 		super(ISqueezerRecipe.TYPE);
@@ -58,7 +64,17 @@ public class SqueezerRecipeManager extends AbstractCraftingProvider<ISqueezerRec
 
 	@Override
 	public Optional<ISqueezerRecipe> findMatchingRecipe(@Nullable RecipeManager recipeManager, NonNullList<ItemStack> items) {
-		return getRecipes(recipeManager)
+		Set<Item> keys = new HashSet<>();
+		for (ItemStack stack : items) {
+			if (!stack.isEmpty()) {
+				keys.add(stack.getItem());
+			}
+		}
+		if (keys.isEmpty()) {
+			return Optional.empty();
+		}
+
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(keys).stream()
 				.filter(recipe -> {
 					int[] consume = ItemStackUtil.createConsume(recipe.getResources(), items.size(), items::get, false);
 					return consume.length > 0;
@@ -68,7 +84,11 @@ public class SqueezerRecipeManager extends AbstractCraftingProvider<ISqueezerRec
 
 	@Override
 	public boolean canUse(@Nullable RecipeManager recipeManager, ItemStack itemStack) {
-		return getRecipes(recipeManager)
+		if (itemStack.isEmpty()) {
+			return false;
+		}
+
+		return getIndex(recipeManager, ITEM_KEYS).getCandidates(itemStack.getItem()).stream()
 				.flatMap(recipe -> recipe.getResources().stream())
 				.anyMatch(resource -> resource.test(itemStack));
 	}
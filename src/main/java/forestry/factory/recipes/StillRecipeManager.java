@@ -11,12 +11,15 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.material.Fluid;
 
 import net.minecraftforge.fluids.FluidStack;
 
@@ -25,6 +28,7 @@ import forestry.api.recipes.IStillManager;
 import forestry.api.recipes.IStillRecipe;
 
 public class StillRecipeManager extends AbstractCraftingProvider<IStillRecipe> implements IStillManager {
+	private static final Function<IStillRecipe, Collection<Fluid>> FLUID_KEYS = recipe -> RecipeIndex.getFluidKeys(recipe.getInput());
 
 	public StillRecipeManager() {
 		super(IStillRecipe.TYPE);
@@ -42,7 +46,7 @@ public class StillRecipeManager extends AbstractCraftingProvider<IStillRecipe> i
 			return Optional.empty();
 		}
 
-		return getRecipes(recipeManager)
+		return getIndex(recipeManager, FLUID_KEYS).getCandidates(fluid.getFluid()).stream()
 				.filter(recipe -> matches(recipe, fluid))
 				.findFirst();
 	}
@@ -25,6 +25,7 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.core.Direction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import forestry.api.farming.FarmDirection;
 import forestry.api.farming.ICrop;
@@ -111,7 +112,12 @@ public class FarmHelper {
 		};
 	}
 
-	public static void createTargets(Level world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest, BlockPos minFarmCoord, BlockPos maxFarmCoord) {
+	/**
+	 * Creates the targets of every side of the farm.
+	 *
+	 * @param targetArea Receives the areas of the world that were tested to create the targets.
+	 */
+	public static void createTargets(Level world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest, BlockPos minFarmCoord, BlockPos maxFarmCoord) {
 		for (FarmDirection farmSide : FarmDirection.values()) {
 
 			final int farmWidth;
@@ -131,13 +137,15 @@ public class FarmHelper {
 
 			BlockPos targetLocation = FarmHelper.getFarmMultiblockCorner(targetStart, farmSide, layoutDirection, minFarmCoord, maxFarmCoord);
 			BlockPos firstLocation = targetLocation.relative(farmSide.getFacing());
+			targetArea.add(getGroundArea(firstLocation));
 			BlockPos firstGroundPosition = getGroundPosition(world, farmHousing, firstLocation);
 			if (firstGroundPosition != null) {
 				int groundHeight = firstGroundPosition.getY();
+				BlockPos groundLocation = firstGroundPosition;
 
 				for (int i = 0; i < allowedExtent; i++) {
 					targetLocation = targetLocation.relative(farmSide.getFacing());
-					BlockPos groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
+					groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
 
 					if (!world.hasChunkAt(groundLocation) || !farmHousing.isValidPlatform(world, groundLocation)) {
 						break;
@@ -151,10 +159,18 @@ public class FarmHelper {
 					FarmTarget target = new FarmTarget(targetLocation, layoutDirection, targetLimit);
 					farmSideTargets.add(target);
 				}
+				targetArea.add(BoundingBox.fromCorners(firstGroundPosition, groundLocation));
 			}
 		}
 	}
 
+	/**
+	 * @return the area that {@link #getGroundPosition} tests for the given position.
+	 */
+	private static BoundingBox getGroundArea(BlockPos targetPosition) {
+		return new BoundingBox(targetPosition.getX(), targetPosition.getY() - 3, targetPosition.getZ(), targetPosition.getX(), targetPosition.getY() + 2, targetPosition.getZ());
+	}
+
 	@Nullable
 	private static BlockPos getGroundPosition(Level world, IFarmHousing farmHousing, BlockPos targetPosition) {
 		if (!world.hasChunkAt(targetPosition)) {
@@ -180,13 +196,28 @@ public class FarmHelper {
 		return false;
 	}
 
-	public static void setExtents(Level world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets) {
+	/**
+	 * Updates the extents of the given targets.
+	 *
+	 * @param targetArea Receives the areas of the world that were tested to find the extents.
+	 */
+	public static void setExtents(Level world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea) {
 		for (List<FarmTarget> targetsList : targets.values()) {
 			if (!targetsList.isEmpty()) {
-				BlockPos groundPosition = getGroundPosition(world, farmHousing, targetsList.get(0).getStart());
+				BlockPos start = targetsList.get(0).getStart();
+				targetArea.add(getGroundArea(start));
+				BlockPos groundPosition = getGroundPosition(world, farmHousing, start);
 
+				int maxLimit = 0;
 				for (FarmTarget target : targetsList) {
 					target.setExtentAndYOffset(world, groundPosition, farmHousing);
+					maxLimit = Math.max(maxLimit, target.getLimit());
+				}
+
+				if (groundPosition != null && maxLimit > 0) {
+					FarmDirection direction = targetsList.get(0).getDirection();
+					BlockPos end = groundPosition.relative(direction.getFacing(), maxLimit - 1);
+					targetArea.add(BoundingBox.fromCorners(groundPosition, end));
 				}
 			}
 		}
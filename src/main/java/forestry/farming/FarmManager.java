@@ -5,6 +5,7 @@ import com.google.common.collect.Table;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,7 +22,9 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import net.minecraftforge.fluids.FluidStack;
 
@@ -49,6 +52,9 @@ import forestry.farming.multiblock.FarmHydrationManager;
 
 public class FarmManager implements INbtReadable, INbtWritable, IStreamable, IExtentCache {
 	private final Map<FarmDirection, List<FarmTarget>> targets = new EnumMap<>(FarmDirection.class);
+	// the areas of the world that the targets depend on
+	private final List<BoundingBox> targetArea = new ArrayList<>();
+	private boolean targetsValid = false;
 	private final Table<FarmDirection, BlockPos, Integer> lastExtents = HashBasedTable.create();
 	private final IFarmHousingInternal housing;
 	@Nullable
@@ -65,9 +71,6 @@ public class FarmManager implements INbtReadable, INbtWritable, IStreamable, IEx
 	private final TankManager tankManager;
 	private final StandardTank resourceTank;
 
-	// tick updates can come from multiple gearboxes so keep track of them here
-	private int farmWorkTicks = 0;
-
 	public FarmManager(IFarmHousingInternal housing) {
 		this.housing = housing;
 		this.resourceTank = new FilteredTank(Constants.PROCESSOR_TANK_CAPACITY).setFilters(Fluids.WATER);
@@ -103,9 +106,8 @@ public class FarmManager implements INbtReadable, INbtWritable, IStreamable, IEx
 	}
 
 	public boolean doWork() {
-		farmWorkTicks++;
-		if (targets.isEmpty() || farmWorkTicks % 20 == 0) {
-			housing.setUpFarmlandTargets(targets);
+		if (!targetsValid) {
+			setUpTargets();
 		}
 
 		IErrorLogic errorLogic = housing.getErrorLogic();
@@ -311,8 +313,50 @@ public class FarmManager implements INbtReadable, INbtWritable, IStreamable, IEx
 		fertilizerManager.readData(data);
 	}
 
+	private void setUpTargets() {
+		Level world = housing.getWorldObj();
+		targetArea.clear();
+		housing.setUpFarmlandTargets(targets, targetArea);
+		targetsValid = true;
+		FarmTargetTracker.track(world, this);
+	}
+
 	public void clearTargets() {
 		targets.clear();
+		targetArea.clear();
+		targetsValid = false;
+		FarmTargetTracker.untrack(housing.getWorldObj(), this);
+	}
+
+	/**
+	 * Recreates the targets on the next work cycle if the given position is inside the area that they depend on.
+	 */
+	void onBlockChange(BlockPos pos) {
+		if (!targetsValid) {
+			return;
+		}
+		for (BoundingBox area : targetArea) {
+			if (area.isInside(pos)) {
+				targetsValid = false;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Recreates the targets on the next work cycle if the given chunk intersects the area that they depend on,
+	 * since the creation of the targets stops at unloaded chunks.
+	 */
+	void onChunkLoad(ChunkPos chunkPos) {
+		if (!targetsValid) {
+			return;
+		}
+		for (BoundingBox area : targetArea) {
+			if (area.intersects(chunkPos.getMinBlockX(), chunkPos.getMinBlockZ(), chunkPos.getMaxBlockX(), chunkPos.getMaxBlockZ())) {
+				targetsValid = false;
+				return;
+			}
+		}
 	}
 
 	public void addPendingProduct(ItemStack stack) {
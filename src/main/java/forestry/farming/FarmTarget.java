@@ -45,6 +45,10 @@ public class FarmTarget {
 		return extent;
 	}
 
+	public int getLimit() {
+		return limit;
+	}
+
 	public FarmDirection getDirection() {
 		return direction;
 	}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.core.config.Constants;
+
+/**
+ * Tells the farm managers of a world about the block changes and chunk loads inside the areas that their cached
+ * targets depend on, see {@link FarmManager#onBlockChange} and {@link FarmManager#onChunkLoad}.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID)
+public class FarmTargetTracker {
+	private static final Map<LevelAccessor, Set<FarmManager>> managers = new HashMap<>();
+
+	private FarmTargetTracker() {
+	}
+
+	static void track(Level world, FarmManager manager) {
+		managers.computeIfAbsent(world, k -> Collections.newSetFromMap(new WeakHashMap<>())).add(manager);
+	}
+
+	static void untrack(Level world, FarmManager manager) {
+		Set<FarmManager> worldManagers = managers.get(world);
+		if (worldManagers != null) {
+			worldManagers.remove(manager);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+		Set<FarmManager> worldManagers = managers.get(event.getWorld());
+		if (worldManagers != null) {
+			for (FarmManager manager : worldManagers) {
+				manager.onBlockChange(event.getPos());
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onChunkLoad(ChunkEvent.Load event) {
+		Set<FarmManager> worldManagers = managers.get(event.getWorld());
+		if (worldManagers != null) {
+			ChunkPos chunkPos = event.getChunk().getPos();
+			for (FarmManager manager : worldManagers) {
+				manager.onChunkLoad(chunkPos);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		managers.remove(event.getWorld());
+	}
+}
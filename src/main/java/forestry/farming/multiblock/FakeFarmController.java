@@ -22,6 +22,7 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import net.minecraftforge.fluids.FluidStack;
 
@@ -88,7 +89,7 @@ public class FakeFarmController extends FakeMultiblockController implements IFar
 	}
 
 	@Override
-	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets) {
+	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea) {
 	}
 
 	@Override
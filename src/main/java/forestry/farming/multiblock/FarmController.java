@@ -29,6 +29,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.Biomes;
 
@@ -161,6 +162,12 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		}
 	}
 
+	@Override
+	protected void onMachineAssembled() {
+		super.onMachineAssembled();
+		manager.clearTargets();
+	}
+
 	@Override
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
@@ -369,7 +376,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	}
 
 	@Override
-	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets) {
+	public void setUpFarmlandTargets(Map<FarmDirection, List<FarmTarget>> targets, List<BoundingBox> targetArea) {
 		BlockPos targetStart = getCoords();
 
 		BlockPos max = getMaximumCoord();
@@ -381,8 +388,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		// Set the maximum allowed extent.
 		allowedExtent = Math.max(sizeNorthSouth, sizeEastWest) * Config.farmSize + 1;
 
-		FarmHelper.createTargets(world, this, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest, min, max);
-		FarmHelper.setExtents(world, this, targets);
+		FarmHelper.createTargets(world, this, targets, targetArea, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest, min, max);
+		FarmHelper.setExtents(world, this, targets, targetArea);
 	}
 
 	@Override
@@ -22,6 +22,7 @@ import forestry.api.arboriculture.genetics.TreeChromosomes;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.genetics.ButterflyChromosomes;
 import forestry.api.lepidopterology.genetics.IButterfly;
+import forestry.lepidopterology.entities.ButterflyPopulation;
 
 public class ButterflySpawner implements ILeafTickHandler {
 
@@ -33,6 +34,10 @@ public class ButterflySpawner implements ILeafTickHandler {
 			return false;
 		}
 
+		if (!ButterflyPopulation.canSpawn(world, pos)) {
+			return false;
+		}
+
 		if (rand.nextFloat() >= tree.getGenome().getActiveValue(TreeChromosomes.SAPPINESS) * tree.getGenome().getActiveValue(TreeChromosomes.YIELD)) {
 			return false;
 		}
@@ -49,15 +54,12 @@ public class ButterflySpawner implements ILeafTickHandler {
 			return false;
 		}
 
-		//TODO needs server world?
-		if (false) {//world.countEntities(EntityButterfly.class) > ModuleLepidopterology.spawnConstraint) {
-			return false;
-		}
-
 		if (!spawn.canSpawn(world, pos.getX(), pos.getY(), pos.getZ())) {
 			return false;
 		}
 
+		ButterflyPopulation.useSpawn(world);
+
 		if (world.isEmptyBlock(pos.north())) {
 			ButterflyUtils.attemptButterflySpawn(world, spawn, pos.north());
 		} else if (world.isEmptyBlock(pos.south())) {
@@ -7,6 +7,7 @@ import net.minecraft.world.level.Level;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.genetics.IButterfly;
 import forestry.core.utils.Log;
+import forestry.lepidopterology.entities.ButterflyPopulation;
 
 public class ButterflyUtils {
 
@@ -17,8 +18,7 @@ public class ButterflyUtils {
 	}
 
 	public static boolean spawnButterfly(IButterfly butterfly, Level world, BlockPos pos) {
-		//TODO needs server world I think
-		if (false) {//world.countEntities(EntityButterfly.class) > ModuleLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.isSaturated(world, pos)) {
 			return false;
 		}
 
@@ -33,7 +33,7 @@ public class ButterflyUtils {
 	}
 
 	public static boolean spawnButterflyWithoutCheck(IButterfly butterfly, Level world, BlockPos pos) {
-		if (false) {//TODO world.countEntities(EntityButterfly.class) > ModuleLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.isSaturated(world, pos)) {
 			return false;
 		}
 		if (world.isEmptyBlock(pos)) {
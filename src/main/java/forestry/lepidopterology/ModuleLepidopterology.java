@@ -56,6 +56,10 @@ public class ModuleLepidopterology extends BlankForestryModule {
 	public static ProxyLepidopterology proxy;
 	private static final String CONFIG_CATEGORY = "lepidopterology";
 	public static int maxDistance = 64;
+	// Maximum amount of butterflies in a region of ButterflyPopulation.REGION_SIZE blocks
+	public static int spawnConstraint = 100;
+	// Maximum amount of butterflies that spawn from leaves per world and tick
+	public static int spawnsPerTick = 2;
 	private static boolean allowPollination = true;
 	public static final Map<String, Float> spawnRaritys = Maps.newHashMap();
 	private static boolean spawnButterflysFromLeaves = true;
@@ -13,6 +13,8 @@ package forestry.lepidopterology.entities;
 import javax.annotation.Nullable;
 import java.util.List;
 
+import net.minecraft.world.phys.AABB;
+
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.api.lepidopterology.genetics.ButterflyChromosomes;
 import forestry.core.utils.GeneticsUtil;
@@ -38,8 +40,7 @@ public class AIButterflyMate extends AIButterflyInteract {
 			return false;
 		}
 
-		//TODO I think this needs a server world. Check what vanilla spawn cap code does?
-		if (false) {//entity.world.countEntities(EntityButterfly.class) > ModuleLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.isSaturated(entity.level, entity.blockPosition())) {
 			return false;
 		}
 
@@ -109,7 +110,12 @@ public class AIButterflyMate extends AIButterflyInteract {
 	@Nullable
 	private EntityButterfly getNearbyMate() {
 		float f = 8.0F;
-		List<EntityButterfly> nextButterflys = entity.level.getEntitiesOfClass(EntityButterfly.class, this.entity.getBoundingBox().expandTowards(f, f, f));
+		AABB searchBox = this.entity.getBoundingBox().expandTowards(f, f, f);
+		// Skip the entity search if this butterfly is alone in the regions around it
+		if (!entity.level.isClientSide && ButterflyPopulation.getCount(entity.level, searchBox) <= 1) {
+			return null;
+		}
+		List<EntityButterfly> nextButterflys = entity.level.getEntitiesOfClass(EntityButterfly.class, searchBox);
 		double d0 = Double.MAX_VALUE;
 		EntityButterfly nextButterfly = null;
 
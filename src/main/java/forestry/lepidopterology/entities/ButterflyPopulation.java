@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.AABB;
+
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import net.minecraftforge.fml.common.Mod;
+
+import forestry.core.config.Constants;
+import forestry.lepidopterology.ModuleLepidopterology;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+/**
+ * Counts the loaded butterflies of every server world per region of {@link #REGION_SIZE} x {@link #REGION_SIZE}
+ * blocks, so the spawn constraint can be checked without searching for entities.
+ * <p>
+ * The count is updated when a butterfly joins or leaves the world and when it flies into another region.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID)
+public class ButterflyPopulation {
+	private static final int REGION_SHIFT = 6;
+	public static final int REGION_SIZE = 1 << REGION_SHIFT;
+	static final long NO_REGION = Long.MIN_VALUE;
+
+	private static final Map<LevelAccessor, ButterflyPopulation> populations = new HashMap<>();
+
+	private final Long2IntMap regionCounts = new Long2IntOpenHashMap();
+	private long budgetTime = Long.MIN_VALUE;
+	private int spawnBudget;
+
+	private ButterflyPopulation() {
+	}
+
+	private static ButterflyPopulation get(Level world) {
+		return populations.computeIfAbsent(world, k -> new ButterflyPopulation());
+	}
+
+	private static long getRegion(double x, double z) {
+		return ChunkPos.asLong(Mth.floor(x) >> REGION_SHIFT, Mth.floor(z) >> REGION_SHIFT);
+	}
+
+	private void add(long region, int amount) {
+		int count = regionCounts.get(region) + amount;
+		if (count > 0) {
+			regionCounts.put(region, count);
+		} else {
+			regionCounts.remove(region);
+		}
+	}
+
+	/**
+	 * @return The amount of butterflies in the region that contains the given position.
+	 */
+	public static int getCount(Level world, BlockPos pos) {
+		ButterflyPopulation population = populations.get(world);
+		return population == null ? 0 : population.regionCounts.get(getRegion(pos.getX(), pos.getZ()));
+	}
+
+	/**
+	 * @return true if the region that contains the given position has reached {@link ModuleLepidopterology#spawnConstraint}.
+	 */
+	public static boolean isSaturated(Level world, BlockPos pos) {
+		return getCount(world, pos) >= ModuleLepidopterology.spawnConstraint;
+	}
+
+	/**
+	 * @return The amount of butterflies in all regions that intersect the given box.
+	 */
+	public static int getCount(Level world, AABB box) {
+		ButterflyPopulation population = populations.get(world);
+		if (population == null) {
+			return 0;
+		}
+		int count = 0;
+		for (int regionX = Mth.floor(box.minX) >> REGION_SHIFT; regionX <= Mth.floor(box.maxX) >> REGION_SHIFT; regionX++) {
+			for (int regionZ = Mth.floor(box.minZ) >> REGION_SHIFT; regionZ <= Mth.floor(box.maxZ) >> REGION_SHIFT; regionZ++) {
+				count += population.regionCounts.get(ChunkPos.asLong(regionX, regionZ));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Checks if a butterfly may spawn naturally at the given position during the current tick.
+	 * Every world allows {@link ModuleLepidopterology#spawnsPerTick} of these spawns per tick.
+	 */
+	public static boolean canSpawn(Level world, BlockPos pos) {
+		if (isSaturated(world, pos)) {
+			return false;
+		}
+		ButterflyPopulation population = get(world);
+		long time = world.getGameTime();
+		if (population.budgetTime != time) {
+			population.budgetTime = time;
+			population.spawnBudget = ModuleLepidopterology.spawnsPerTick;
+		}
+		return population.spawnBudget > 0;
+	}
+
+	/**
+	 * Uses up one natural spawn of the current tick, see {@link #canSpawn(Level, BlockPos)}.
+	 */
+	public static void useSpawn(Level world) {
+		ButterflyPopulation population = populations.get(world);
+		if (population != null && population.budgetTime == world.getGameTime()) {
+			population.spawnBudget--;
+		}
+	}
+
+	static void onTick(EntityButterfly butterfly) {
+		if (butterfly.populationRegion == NO_REGION) {
+			return;
+		}
+		long region = getRegion(butterfly.getX(), butterfly.getZ());
+		if (region != butterfly.populationRegion) {
+			ButterflyPopulation population = get(butterfly.level);
+			population.add(butterfly.populationRegion, -1);
+			population.add(region, 1);
+			butterfly.populationRegion = region;
+		}
+	}
+
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public static void onEntityJoinWorld(EntityJoinWorldEvent event) {
+		if (event.getEntity() instanceof EntityButterfly butterfly && !event.getWorld().isClientSide) {
+			ButterflyPopulation population = get(event.getWorld());
+			if (butterfly.populationRegion != NO_REGION) {
+				population.add(butterfly.populationRegion, -1);
+			}
+			butterfly.populationRegion = getRegion(butterfly.getX(), butterfly.getZ());
+			population.add(butterfly.populationRegion, 1);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onEntityLeaveWorld(EntityLeaveWorldEvent event) {
+		if (event.getEntity() instanceof EntityButterfly butterfly && butterfly.populationRegion != NO_REGION) {
+			ButterflyPopulation population = populations.get(event.getWorld());
+			if (population != null) {
+				population.add(butterfly.populationRegion, -1);
+			}
+			butterfly.populationRegion = NO_REGION;
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		populations.remove(event.getWorld());
+	}
+}
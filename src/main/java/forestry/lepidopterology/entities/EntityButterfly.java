@@ -111,6 +111,8 @@ public class EntityButterfly extends PathfinderMob implements IEntityButterfly {
 	public int cooldownPollination = 0;
 	public int cooldownEgg = 0;
 	public int cooldownMate = 0;
+	// Region this butterfly is counted in by the ButterflyPopulation
+	long populationRegion = ButterflyPopulation.NO_REGION;
 
 	// Client Rendering
 	@Nullable
@@ -508,6 +510,8 @@ public class EntityButterfly extends PathfinderMob implements IEntityButterfly {
 			if (state.ordinal() != stateOrdinal) {
 				setState(EnumButterflyState.VALUES[stateOrdinal]);
 			}
+		} else {
+			ButterflyPopulation.onTick(this);
 		}
 
 		Vec3 motion = getDeltaMovement();
@@ -248,7 +248,7 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 			}
 		}
 
-		return new Butterfly(new Genome(ButterflyHelper.getRoot().getKaryotype(), chromosomes));
+		return new Butterfly(Genome.create(ButterflyHelper.getRoot().getKaryotype(), chromosomes));
 	}
 
 	@Nullable
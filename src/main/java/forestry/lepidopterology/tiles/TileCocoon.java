@@ -36,14 +36,13 @@ import forestry.api.lepidopterology.genetics.ButterflyChromosomes;
 import forestry.api.lepidopterology.genetics.IButterfly;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
-import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.TileStreamScheduler;
 import forestry.core.owner.IOwnedTile;
 import forestry.core.owner.IOwnerHandler;
 import forestry.core.owner.OwnerHandler;
 import forestry.core.utils.ItemStackUtil;
 import forestry.core.utils.Log;
 import forestry.core.utils.NBTUtilForestry;
-import forestry.core.utils.NetworkUtil;
 import forestry.lepidopterology.features.LepidopterologyTiles;
 import forestry.lepidopterology.genetics.Butterfly;
 import forestry.lepidopterology.genetics.ButterflyDefinition;
@@ -225,7 +224,7 @@ public class TileCocoon extends BlockEntity implements IStreamable, IOwnedTile,
 	}
 
 	private void sendNetworkUpdate() {
-		NetworkUtil.sendNetworkPacket(new PacketTileStream(this), worldPosition, level);
+		TileStreamScheduler.markDirty(this);
 	}
 
 	public int getAge() {
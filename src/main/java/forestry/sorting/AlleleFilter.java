@@ -12,6 +12,11 @@ public class AlleleFilter {
 	@Nullable
 	public IAllele inactiveAllele;
 
+	public boolean isValid(IAllele active, IAllele inactive) {
+		return (this.activeAllele == null || this.activeAllele == active)
+			&& (this.inactiveAllele == null || this.inactiveAllele == inactive);
+	}
+
 	public boolean isValid(String activeUID, String inactiveUID) {
 		return (this.activeAllele == null || activeUID.equals(this.activeAllele.getRegistryName().toString()))
 			&& (this.inactiveAllele == null || inactiveUID.equals(this.inactiveAllele.getRegistryName().toString()));
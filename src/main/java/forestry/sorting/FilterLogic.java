@@ -35,11 +35,18 @@ import genetics.utils.RootUtils;
 
 import forestry.api.genetics.filter.IFilterLogic.INetworkHandler;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 public class FilterLogic implements IFilterLogic {
+	private static final int MAX_ROUTES = 1024;
+
 	private final ILocatable locatable;
 	private final INetworkHandler networkHandler;
 	private IFilterRuleType[] filterRules = new IFilterRuleType[6];
 	private AlleleFilter[][] genomeFilter = new AlleleFilter[6][3];
+	// individual > bit mask of the valid facings, cleared when the configuration changes
+	private final Object2IntMap<RouteKey> routes = new Object2IntOpenHashMap<>();
 
 	public FilterLogic(ILocatable locatable, INetworkHandler networkHandler) {
 		this.locatable = locatable;
@@ -47,6 +54,7 @@ public class FilterLogic implements IFilterLogic {
 		for (int i = 0; i < filterRules.length; i++) {
 			filterRules[i] = AlleleManager.filterRegistry.getDefaultRule();
 		}
+		routes.defaultReturnValue(-1);
 	}
 
 	@Override
@@ -95,6 +103,7 @@ public class FilterLogic implements IFilterLogic {
 				genomeFilter[i][j] = filter;
 			}
 		}
+		routes.clear();
 	}
 
 	@Override
@@ -147,41 +156,64 @@ public class FilterLogic implements IFilterLogic {
 				genomeFilter[i][j] = filter;
 			}
 		}
+		routes.clear();
 	}
 
 	public Collection<Direction> getValidDirections(ItemStack itemStack, Direction from) {
-		IRootDefinition<IIndividualRoot<IIndividual>> definition = RootUtils.getRoot(itemStack);
-		IIndividual individual = null;
-		IOrganismType type = null;
-		if (definition.isPresent()) {
-			IIndividualRoot<IIndividual> root = definition.get();
-			individual = root.create(itemStack).orElse(null);
-			type = root.getTypes().getType(itemStack).orElse(null);
-		}
-		IFilterData filterData = new FilterData(definition, individual, type);
-		List<Direction> validFacings = new LinkedList<>();
+		int validFacings = getValidFacings(itemStack);
+		List<Direction> validDirections = new LinkedList<>();
 		for (Direction facing : Direction.VALUES) {
-			if (facing == from) {
-				continue;
-			}
-			if (isValid(facing, itemStack, filterData)) {
-				validFacings.add(facing);
+			if (facing != from && (validFacings & (1 << facing.ordinal())) != 0) {
+				validDirections.add(facing);
 			}
 		}
-		return validFacings;
+		return validDirections;
 	}
 
 	@Override
 	public boolean isValid(ItemStack itemStack, Direction facing) {
+		return (getValidFacings(itemStack) & (1 << facing.ordinal())) != 0;
+	}
+
+	/**
+	 * The valid facings of an individual only depend on its root, type and genomes, so they are only computed once
+	 * for every distinct individual until the rules or the genome filters change.
+	 *
+	 * @return A bit mask of the facings the stack may be routed to, indexed by {@link Direction#ordinal()}.
+	 */
+	public int getValidFacings(ItemStack itemStack) {
 		IRootDefinition<IIndividualRoot<IIndividual>> definition = RootUtils.getRoot(itemStack);
-		IIndividual individual = null;
-		IOrganismType type = null;
-		if (definition.isPresent()) {
-			IIndividualRoot<IIndividual> root = definition.get();
-			individual = root.create(itemStack).orElse(null);
-			type = root.getTypes().getType(itemStack).orElse(null);
+		if (!definition.isPresent()) {
+			return computeValidFacings(itemStack, new FilterData(definition, null, null));
+		}
+		IIndividualRoot<IIndividual> root = definition.get();
+		IIndividual individual = root.create(itemStack).orElse(null);
+		IOrganismType type = root.getTypes().getType(itemStack).orElse(null);
+		IFilterData filterData = new FilterData(definition, individual, type);
+		if (individual == null || type == null) {
+			return computeValidFacings(itemStack, filterData);
+		}
+
+		RouteKey key = new RouteKey(root, type, individual.getGenome(), individual.getMate().orElse(null));
+		int validFacings = routes.getInt(key);
+		if (validFacings < 0) {
+			if (routes.size() >= MAX_ROUTES) {
+				routes.clear();
+			}
+			validFacings = computeValidFacings(itemStack, filterData);
+			routes.put(key, validFacings);
+		}
+		return validFacings;
+	}
+
+	private int computeValidFacings(ItemStack itemStack, IFilterData filterData) {
+		int validFacings = 0;
+		for (Direction facing : Direction.VALUES) {
+			if (isValid(facing, itemStack, filterData)) {
+				validFacings |= 1 << facing.ordinal();
+			}
 		}
-		return isValid(facing, itemStack, new FilterData(definition, individual, type));
+		return validFacings;
 	}
 
 	public boolean isValid(Direction facing, ItemStack itemStack, IFilterData filterData) {
@@ -200,15 +232,26 @@ public class FilterLogic implements IFilterLogic {
 			if (filterData.isPresent()) {
 				IIndividual ind = filterData.getIndividual();
 				IGenome genome = ind.getGenome();
-				IAllele active = genome.getPrimary();
-				IAllele inactive = genome.getSecondary();
-				return isValidAllelePair(facing, active.getRegistryName().toString(), inactive.getRegistryName().toString());
+				return isValidAllelePair(facing, genome.getPrimary(), genome.getSecondary());
 			}
 			return true;
 		}
 		return false;
 	}
 
+	public boolean isValidAllelePair(Direction orientation, IAllele active, IAllele inactive) {
+		boolean foundFilter = false;
+		for (AlleleFilter filter : genomeFilter[orientation.ordinal()]) {
+			if (filter != null && !filter.isEmpty()) {
+				foundFilter = true;
+				if (filter.isValid(active, inactive)) {
+					return true;
+				}
+			}
+		}
+		return !foundFilter;
+	}
+
 	public boolean isValidAllelePair(Direction orientation, String activeUID, String inactiveUID) {
 		AlleleFilter[] directionFilters = genomeFilter[orientation.ordinal()];
 
@@ -236,6 +279,7 @@ public class FilterLogic implements IFilterLogic {
 	public boolean setRule(Direction facing, IFilterRuleType rule) {
 		if (filterRules[facing.ordinal()] != rule) {
 			filterRules[facing.ordinal()] = rule;
+			routes.clear();
 			return true;
 		}
 		return false;
@@ -268,6 +312,9 @@ public class FilterLogic implements IFilterLogic {
 			set = filter.inactiveAllele != allele;
 			filter.inactiveAllele = allele;
 		}
+		if (set) {
+			routes.clear();
+		}
 		return set;
 	}
 
@@ -280,4 +327,7 @@ public class FilterLogic implements IFilterLogic {
 	public void sendToServer(Direction facing, IFilterRuleType rule) {
 		NetworkUtil.sendToServer(new PacketFilterChangeRule(locatable.getCoordinates(), facing, rule));
 	}
+
+	private record RouteKey(IIndividualRoot<?> root, IOrganismType type, IGenome genome, @Nullable IGenome mate) {
+	}
 }
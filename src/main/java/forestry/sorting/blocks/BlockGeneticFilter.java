@@ -73,6 +73,14 @@ public class BlockGeneticFilter extends BlockForestry implements EntityBlock {
 				.setValue(DOWN, geneticFilter.isConnected(Direction.DOWN));
 	}
 
+	@Override
+	public void onRemove(BlockState state, Level world, BlockPos pos, BlockState newState, boolean isMoving) {
+		if (!state.is(newState.getBlock())) {
+			TileUtil.actOnTile(world, pos, TileGeneticFilter.class, TileGeneticFilter::dropPendingItems);
+		}
+		super.onRemove(state, world, pos, newState, isMoving);
+	}
+
 	@Override
 	public InteractionResult use(BlockState state, Level worldIn, BlockPos pos, Player playerIn, InteractionHand hand, BlockHitResult rayTraceResult) {
 		TileGeneticFilter tile = TileUtil.getTile(worldIn, pos, TileGeneticFilter.class);
@@ -7,6 +7,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import forestry.core.gui.ContainerTile;
 import forestry.core.tiles.TileUtil;
 import forestry.sorting.features.SortingContainers;
+import forestry.sorting.network.packets.PacketGuiFilterThroughput;
 import forestry.sorting.network.packets.PacketGuiFilterUpdate;
 import forestry.sorting.tiles.IFilterContainer;
 import forestry.sorting.tiles.TileGeneticFilter;
@@ -14,6 +15,7 @@ import forestry.sorting.tiles.TileGeneticFilter;
 public class ContainerGeneticFilter extends ContainerTile<TileGeneticFilter> {
 	private final IFilterContainer container;
 	private boolean guiNeedsUpdate = true;
+	private long previousTransferredItems = -1;
 
 	public static ContainerGeneticFilter fromNetwork(int windowId, Inventory inv, FriendlyByteBuf data) {
 		TileGeneticFilter tile = TileUtil.getTile(inv.player.level, data.readBlockPos(), TileGeneticFilter.class);
@@ -58,6 +60,13 @@ public class ContainerGeneticFilter extends ContainerTile<TileGeneticFilter> {
 			sendPacketToListeners(packet);
 			guiNeedsUpdate = false;
 		}
+
+		long transferredItems = tile.getTransferredItems();
+		if (transferredItems != previousTransferredItems) {
+			PacketGuiFilterThroughput packet = new PacketGuiFilterThroughput(containerId, transferredItems, tile.getTransferredStacks());
+			sendPacketToListeners(packet);
+			previousTransferredItems = transferredItems;
+		}
 	}
 
 	public boolean hasSameTile(ContainerGeneticFilter openContainer) {
@@ -13,6 +13,7 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.systems.RenderSystem;
 
 import forestry.api.genetics.filter.IFilterLogic;
+import forestry.core.config.Config;
 import forestry.core.config.Constants;
 import forestry.core.gui.Drawable;
 import forestry.core.gui.GuiForestryTitled;
@@ -155,6 +156,9 @@ public class GuiGeneticFilter extends GuiForestryTitled<ContainerGeneticFilter>
 
 	@Override
 	protected void addLedgers() {
+		if (Config.filterBurstMode) {
+			ledgerManager.add(new ThroughputLedger(ledgerManager, tile.getTileEntity()));
+		}
 		addHintLedger("filter");
 	}
 
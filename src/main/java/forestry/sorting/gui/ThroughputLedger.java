@@ -0,0 +1,56 @@
+package forestry.sorting.gui;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.network.chat.TranslatableComponent;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+
+import forestry.core.gui.ledgers.Ledger;
+import forestry.core.gui.ledgers.LedgerManager;
+import forestry.core.render.TextureManagerForestry;
+import forestry.core.utils.Translator;
+import forestry.sorting.tiles.TileGeneticFilter;
+
+/**
+ * Shows how many items and stacks the burst mode of a genetic filter has moved.
+ */
+public class ThroughputLedger extends Ledger {
+	private final TileGeneticFilter tile;
+
+	public ThroughputLedger(LedgerManager manager, TileGeneticFilter tile) {
+		super(manager, "filter");
+		this.tile = tile;
+		maxHeight = 70;
+	}
+
+	@Override
+	public void draw(PoseStack transform, int y, int x) {
+		// Draw background
+		drawBackground(transform, y, x);
+
+		// Draw icon
+		drawSprite(transform, TextureManagerForestry.getInstance().getDefault("analyzer/item"), x + 3, y + 4);
+
+		if (!isFullyOpened()) {
+			return;
+		}
+
+		int xHeader = x + 22;
+		int xBody = x + 12;
+
+		drawHeader(transform, Translator.translateToLocal("for.gui.filter.throughput"), xHeader, y + 8);
+
+		drawSubheader(transform, Translator.translateToLocal("for.gui.filter.throughput.items") + ':', xBody, y + 20);
+		drawText(transform, Long.toString(tile.getTransferredItems()), xBody, y + 32);
+
+		drawSubheader(transform, Translator.translateToLocal("for.gui.filter.throughput.stacks") + ':', xBody, y + 44);
+		drawText(transform, Long.toString(tile.getTransferredStacks()), xBody, y + 56);
+	}
+
+	@Override
+	public Component getTooltip() {
+		return new TextComponent(tile.getTransferredItems() + " ")
+			.append(new TranslatableComponent("for.gui.filter.throughput.items"));
+	}
+}
@@ -8,6 +8,7 @@ import net.minecraft.core.Direction;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 
+import forestry.core.config.Config;
 import forestry.sorting.tiles.TileGeneticFilter;
 
 public class ItemHandlerFilter implements IItemHandler {
@@ -35,7 +36,11 @@ public class ItemHandlerFilter implements IItemHandler {
 	public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
 		ItemStack remaining = stack;
 		for (Direction facing : filter.getValidDirections(stack, facing)) {
-			remaining = itemHandler.insertItem(facing.get3DDataValue(), stack, simulate);
+			if (Config.filterBurstMode) {
+				remaining = filter.queueItem(facing, stack, simulate);
+			} else {
+				remaining = itemHandler.insertItem(facing.get3DDataValue(), stack, simulate);
+			}
 			if (remaining.isEmpty()) {
 				return ItemStack.EMPTY;
 			}
@@ -9,6 +9,7 @@ import forestry.core.network.PacketIdClient;
 import forestry.core.network.PacketIdServer;
 import forestry.sorting.network.packets.PacketFilterChangeGenome;
 import forestry.sorting.network.packets.PacketFilterChangeRule;
+import forestry.sorting.network.packets.PacketGuiFilterThroughput;
 import forestry.sorting.network.packets.PacketGuiFilterUpdate;
 
 public class PacketRegistrySorting implements IPacketRegistry {
@@ -22,5 +23,6 @@ public class PacketRegistrySorting implements IPacketRegistry {
 	@Override
 	public void registerPacketsClient() {
 		PacketIdClient.GUI_UPDATE_FILTER.setPacketHandler(new PacketGuiFilterUpdate.Handler());
+		PacketIdClient.GUI_FILTER_THROUGHPUT.setPacketHandler(new PacketGuiFilterThroughput.Handler());
 	}
 }
@@ -0,0 +1,50 @@
+package forestry.sorting.network.packets;
+
+import net.minecraft.world.entity.player.Player;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IForestryPacketHandlerClient;
+import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.PacketIdClient;
+import forestry.sorting.gui.ContainerGeneticFilter;
+
+public class PacketGuiFilterThroughput extends ForestryPacket implements IForestryPacketClient {
+	private final int windowId;
+	private final long transferredItems;
+	private final long transferredStacks;
+
+	public PacketGuiFilterThroughput(int windowId, long transferredItems, long transferredStacks) {
+		this.windowId = windowId;
+		this.transferredItems = transferredItems;
+		this.transferredStacks = transferredStacks;
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.GUI_FILTER_THROUGHPUT;
+	}
+
+	@Override
+	protected void writeData(PacketBufferForestry data) {
+		data.writeVarInt(windowId);
+		data.writeVarLong(transferredItems);
+		data.writeVarLong(transferredStacks);
+	}
+
+	@OnlyIn(Dist.CLIENT)
+	public static class Handler implements IForestryPacketHandlerClient {
+		@Override
+		public void onPacketData(PacketBufferForestry data, Player player) {
+			int windowId = data.readVarInt();
+			long transferredItems = data.readVarLong();
+			long transferredStacks = data.readVarLong();
+			if (player.containerMenu instanceof ContainerGeneticFilter container && container.containerId == windowId) {
+				container.getTile().setTransferred(transferredItems, transferredStacks);
+			}
+		}
+	}
+}
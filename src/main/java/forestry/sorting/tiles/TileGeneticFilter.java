@@ -1,7 +1,9 @@
 package forestry.sorting.tiles;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -13,6 +15,8 @@ import net.minecraft.world.Container;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -26,37 +30,41 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
 
 import forestry.api.genetics.GeneticCapabilities;
-import forestry.api.genetics.IForestrySpeciesRoot;
-import forestry.api.genetics.filter.IFilterData;
 import forestry.api.genetics.filter.IFilterLogic;
+import forestry.core.config.Config;
 import forestry.core.inventory.AdjacentInventoryCache;
 import forestry.core.network.IStreamableGui;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.tiles.TileForestry;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.ItemStackUtil;
-import forestry.sorting.FilterData;
 import forestry.sorting.FilterLogic;
 import forestry.sorting.features.SortingTiles;
 import forestry.sorting.gui.ContainerGeneticFilter;
 import forestry.sorting.inventory.InventoryFilter;
 import forestry.sorting.inventory.ItemHandlerFilter;
 
-import genetics.api.individual.IIndividual;
-import genetics.api.organism.IOrganismType;
-import genetics.api.root.IRootDefinition;
-import genetics.utils.RootUtils;
-
 public class TileGeneticFilter extends TileForestry implements IStreamableGui, IFilterContainer {
 	private static final int TRANSFER_DELAY = 5;
+	private static final int MAX_PENDING_STACKS = 8;
 
 	private final FilterLogic logic;
 	private final AdjacentInventoryCache inventoryCache;
+	// Burst mode, see Config.filterBurstMode
+	private final Deque<ItemStack>[] pendingStacks;
+	private boolean pendingChanged;
+	private long transferredItems;
+	private long transferredStacks;
 
+	@SuppressWarnings("unchecked")
 	public TileGeneticFilter(BlockPos pos, BlockState state) {
 		super(SortingTiles.GENETIC_FILTER.tileType(), pos, state);
 		this.inventoryCache = new AdjacentInventoryCache(this, getTileCache());
 		this.logic = new FilterLogic(this, (logic1, server, player) -> sendToPlayers(server, player));
+		this.pendingStacks = new Deque[Direction.VALUES.length];
+		for (int i = 0; i < pendingStacks.length; i++) {
+			pendingStacks[i] = new ArrayDeque<>();
+		}
 		setInternalInventory(new InventoryFilter(this));
 	}
 
@@ -65,6 +73,20 @@ public class TileGeneticFilter extends TileForestry implements IStreamableGui, I
 		super.saveAdditional(data);
 
 		data.put("Logic", logic.write(new CompoundTag()));
+
+		for (Direction facing : Direction.VALUES) {
+			Deque<ItemStack> pending = pendingStacks[facing.ordinal()];
+			if (pending.isEmpty()) {
+				continue;
+			}
+			ListTag stackList = new ListTag();
+			for (ItemStack stack : pending) {
+				stackList.add(stack.save(new CompoundTag()));
+			}
+			data.put("Pending" + facing.ordinal(), stackList);
+		}
+		data.putLong("TransferredItems", transferredItems);
+		data.putLong("TransferredStacks", transferredStacks);
 	}
 
 	@Override
@@ -72,6 +94,20 @@ public class TileGeneticFilter extends TileForestry implements IStreamableGui, I
 		super.load(data);
 
 		logic.read(data.getCompound("Logic"));
+
+		for (Direction facing : Direction.VALUES) {
+			Deque<ItemStack> pending = pendingStacks[facing.ordinal()];
+			pending.clear();
+			ListTag stackList = data.getList("Pending" + facing.ordinal(), Tag.TAG_COMPOUND);
+			for (int i = 0; i < stackList.size(); i++) {
+				ItemStack stack = ItemStack.of(stackList.getCompound(i));
+				if (!stack.isEmpty()) {
+					pending.addLast(stack);
+				}
+			}
+		}
+		transferredItems = data.getLong("TransferredItems");
+		transferredStacks = data.getLong("TransferredStacks");
 	}
 
 	@Override
@@ -97,6 +133,8 @@ public class TileGeneticFilter extends TileForestry implements IStreamableGui, I
 
 	@Override
 	protected void updateServerSide() {
+		transferPendingItems();
+
 		if (updateOnInterval(TRANSFER_DELAY)) {
 			for (Direction facing : Direction.VALUES) {
 				ItemStack stack = getItem(facing.get3DDataValue());
@@ -115,6 +153,107 @@ public class TileGeneticFilter extends TileForestry implements IStreamableGui, I
 		}
 	}
 
+	/**
+	 * Queues the stack for a transfer to the given facing in burst mode.
+	 *
+	 * @return The part of the stack that could not be queued.
+	 */
+	public ItemStack queueItem(Direction facing, ItemStack stack, boolean simulate) {
+		if (stack.isEmpty()) {
+			return ItemStack.EMPTY;
+		}
+		Deque<ItemStack> pending = pendingStacks[facing.ordinal()];
+		ItemStack last = pending.peekLast();
+		if (last != null && ItemHandlerHelper.canItemStacksStack(last, stack) && last.getCount() + stack.getCount() <= last.getMaxStackSize()) {
+			if (!simulate) {
+				last.grow(stack.getCount());
+				pendingChanged = true;
+			}
+			return ItemStack.EMPTY;
+		}
+		if (pending.size() >= MAX_PENDING_STACKS) {
+			return stack;
+		}
+		if (!simulate) {
+			pending.addLast(stack.copy());
+			pendingChanged = true;
+		}
+		return ItemStack.EMPTY;
+	}
+
+	/**
+	 * Moves up to {@link Config#filterTransferBudget} queued items into the adjacent inventories. Every facing
+	 * inserts its queued stacks in order until its inventory is full. Stacks without a destination stay queued.
+	 */
+	private void transferPendingItems() {
+		int budget = Config.filterTransferBudget;
+		for (Direction facing : Direction.VALUES) {
+			Deque<ItemStack> pending = pendingStacks[facing.ordinal()];
+			if (pending.isEmpty()) {
+				continue;
+			}
+			IItemHandler itemHandler = inventoryCache.getAdjacentInventory(facing);
+			if (itemHandler == null) {
+				continue;
+			}
+			while (budget > 0 && !pending.isEmpty()) {
+				ItemStack stack = pending.peekFirst();
+				int count = Math.min(stack.getCount(), budget);
+				ItemStack remaining = ItemHandlerHelper.insertItemStacked(itemHandler, ItemHandlerHelper.copyStackWithSize(stack, count), false);
+				int moved = count - remaining.getCount();
+				if (moved <= 0) {
+					break;
+				}
+				pendingChanged = true;
+				budget -= moved;
+				transferredItems += moved;
+				stack.shrink(moved);
+				if (stack.isEmpty()) {
+					pending.pollFirst();
+					transferredStacks++;
+				} else if (moved < count) {
+					break;
+				}
+			}
+			if (budget <= 0) {
+				break;
+			}
+		}
+		if (pendingChanged) {
+			pendingChanged = false;
+			setChanged();
+		}
+	}
+
+	public void dropPendingItems() {
+		for (Deque<ItemStack> pending : pendingStacks) {
+			for (ItemStack stack : pending) {
+				ItemStackUtil.dropItemStackAsEntity(stack, level, worldPosition.getX(), worldPosition.getY() + 0.5F, worldPosition.getZ());
+			}
+			pending.clear();
+		}
+	}
+
+	/**
+	 * @return The amount of items this filter moved out of its burst mode queues since it was placed.
+	 */
+	public long getTransferredItems() {
+		return transferredItems;
+	}
+
+	/**
+	 * @return The amount of queued stacks this filter moved completely since it was placed.
+	 */
+	public long getTransferredStacks() {
+		return transferredStacks;
+	}
+
+	@OnlyIn(Dist.CLIENT)
+	public void setTransferred(long transferredItems, long transferredStacks) {
+		this.transferredItems = transferredItems;
+		this.transferredStacks = transferredStacks;
+	}
+
 	public boolean isConnected(Direction facing) {
 		if (inventoryCache.getAdjacentInventory(facing) != null) {
 			return true;
@@ -142,29 +281,14 @@ public class TileGeneticFilter extends TileForestry implements IStreamableGui, I
 	}
 
 	public Collection<Direction> getValidDirections(ItemStack itemStack, Direction from) {
-		IRootDefinition<IForestrySpeciesRoot<IIndividual>> definition = RootUtils.getRoot(itemStack);
-		IIndividual individual = null;
-		IOrganismType type = null;
-		if (definition.isPresent()) {
-			IForestrySpeciesRoot<IIndividual> root = definition.get();
-			individual = root.create(itemStack).orElse(null);
-			type = root.getTypes().getType(itemStack).orElse(null);
-		}
-		IFilterData filterData = new FilterData(definition, individual, type);
-		List<Direction> validFacings = new LinkedList<>();
+		int validFacings = logic.getValidFacings(itemStack);
+		List<Direction> validDirections = new LinkedList<>();
 		for (Direction facing : Direction.VALUES) {
-			if (facing == from) {
-				continue;
-			}
-			if (isValidFacing(facing, itemStack, filterData)) {
-				validFacings.add(facing);
+			if (facing != from && (validFacings & (1 << facing.ordinal())) != 0 && inventoryCache.getAdjacentInventory(facing) != null) {
+				validDirections.add(facing);
 			}
 		}
-		return validFacings;
-	}
-
-	private boolean isValidFacing(Direction facing, ItemStack itemStack, IFilterData filterData) {
-		return inventoryCache.getAdjacentInventory(facing) != null && logic.isValid(facing, itemStack, filterData);
+		return validDirections;
 	}
 
 	public IFilterLogic getLogic() {
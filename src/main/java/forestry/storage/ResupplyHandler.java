@@ -10,35 +10,34 @@
  ******************************************************************************/
 package forestry.storage;
 
-import java.util.LinkedList;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.core.NonNullList;
 
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 
 import forestry.api.storage.BackpackResupplyEvent;
 import forestry.core.IResupplyHandler;
+import forestry.core.config.Config;
 import forestry.core.inventory.ItemInventory;
 import forestry.storage.inventory.ItemInventoryBackpack;
 import forestry.storage.items.ItemBackpack;
 
 public class ResupplyHandler implements IResupplyHandler {
+	private static final String KEY_SLOTS = "Slots";
 
-	private static NonNullList<ItemStack> getBackpacks(Inventory playerInventory) {
-		NonNullList<ItemStack> backpacks = NonNullList.create();
-		for (ItemStack itemStack : playerInventory.items) {
-			if (itemStack.getItem() instanceof ItemBackpack) {
-				backpacks.add(itemStack);
-			}
-		}
-		return backpacks;
-	}
+	// Player > parsed inventories of the resupply backpacks the player had on the last resupply
+	private final Map<UUID, List<CachedBackpack>> cachedBackpacks = new HashMap<>();
 
 	@Override
 	public void resupply(Player player) {
@@ -48,24 +47,73 @@ public class ResupplyHandler implements IResupplyHandler {
 			return;
 		}
 
-		for (ItemStack backpack : getBackpacks(player.getInventory())) {
-			if (ItemBackpack.getMode(backpack) == BackpackMode.RESUPPLY) {
-				// Load their inventory
-				ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
-				ItemInventory backpackInventory = new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack);
-
-				Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
-				if (!MinecraftForge.EVENT_BUS.post(event)) {
-					for (int i = 0; i < backpackInventory.getContainerSize(); i++) {
-						ItemStack itemStack = backpackInventory.getItem(i);
-						if (topOffPlayerInventory(player, itemStack)) {
-							backpackInventory.setItem(i, itemStack);
-							break;
-						}
-					}
+		List<CachedBackpack> previous = cachedBackpacks.get(player.getUUID());
+		List<CachedBackpack> current = null;
+		for (ItemStack backpack : player.getInventory().items) {
+			if (!(backpack.getItem() instanceof ItemBackpack) || ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY) {
+				continue;
+			}
+
+			CachedBackpack cached = getCachedBackpack(previous, player, backpack);
+			if (current == null) {
+				current = new ArrayList<>();
+			}
+			current.add(cached);
+
+			ItemInventory backpackInventory = cached.inventory;
+			ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
+			Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
+			if (MinecraftForge.EVENT_BUS.post(event)) {
+				continue;
+			}
+
+			// Move as many items as would have been moved if the backpack was checked every tick
+			int transfers = 0;
+			while (transfers < Config.backpackResupplyInterval && resupplyOnce(player, backpackInventory)) {
+				transfers++;
+			}
+			if (transfers > 0) {
+				cached.updateSnapshot();
+			}
+		}
+
+		if (current == null) {
+			cachedBackpacks.remove(player.getUUID());
+		} else {
+			cachedBackpacks.put(player.getUUID(), current);
+		}
+	}
+
+	@Override
+	public void onPlayerLoggedOut(Player player) {
+		cachedBackpacks.remove(player.getUUID());
+	}
+
+	/**
+	 * Returns the cached inventory of the given backpack, or parses it again if the contents of the backpack changed
+	 * since the last resupply.
+	 */
+	private static CachedBackpack getCachedBackpack(@Nullable List<CachedBackpack> previous, Player player, ItemStack backpack) {
+		if (previous != null) {
+			for (CachedBackpack cached : previous) {
+				if (cached.isValid(player, backpack)) {
+					return cached;
 				}
 			}
 		}
+		ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
+		return new CachedBackpack(player, backpack, new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack));
+	}
+
+	private static boolean resupplyOnce(Player player, ItemInventory backpackInventory) {
+		for (int i = 0; i < backpackInventory.getContainerSize(); i++) {
+			ItemStack itemStack = backpackInventory.getItem(i);
+			if (topOffPlayerInventory(player, itemStack)) {
+				backpackInventory.setItem(i, itemStack);
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -77,10 +125,11 @@ public class ResupplyHandler implements IResupplyHandler {
 			return false;
 		}
 		Inventory playerInventory = player.getInventory();
-		List<ItemStack> inventory = new LinkedList<>();
-		inventory.addAll(playerInventory.items);
-		inventory.addAll(playerInventory.offhand);
+		return topOffStacks(playerInventory, playerInventory.items, itemstack)
+			|| topOffStacks(playerInventory, playerInventory.offhand, itemstack);
+	}
 
+	private static boolean topOffStacks(Inventory playerInventory, List<ItemStack> inventory, ItemStack itemstack) {
 		for (ItemStack inventoryStack : inventory) {
 			if (playerInventory.hasRemainingSpaceForItem(inventoryStack, itemstack)) {
 				inventoryStack.grow(1);
@@ -93,4 +142,39 @@ public class ResupplyHandler implements IResupplyHandler {
 		return false;
 	}
 
+	/**
+	 * The parsed inventory of a backpack stack, together with a snapshot of the slots tag it was parsed from.
+	 */
+	private static class CachedBackpack {
+		private final Player player;
+		private final ItemStack stack;
+		private final ItemInventory inventory;
+		private CompoundTag slots;
+
+		private CachedBackpack(Player player, ItemStack stack, ItemInventory inventory) {
+			this.player = player;
+			this.stack = stack;
+			this.inventory = inventory;
+			this.slots = getSlots(stack).copy();
+		}
+
+		/**
+		 * @return true if the backpack is still held by the same player and nothing else changed its contents.
+		 */
+		private boolean isValid(Player player, ItemStack stack) {
+			return this.player == player && this.stack == stack && slots.equals(getSlots(stack));
+		}
+
+		private void updateSnapshot() {
+			slots = getSlots(stack).copy();
+		}
+
+		private static CompoundTag getSlots(ItemStack stack) {
+			CompoundTag tag = stack.getTag();
+			if (tag == null) {
+				return new CompoundTag();
+			}
+			return tag.getCompound(KEY_SLOTS);
+		}
+	}
 }
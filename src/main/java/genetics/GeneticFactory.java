@@ -53,12 +53,12 @@ public enum GeneticFactory implements IGeneticFactory {
 
 	@Override
 	public IGenome createGenome(IKaryotype karyotype, CompoundTag compound) {
-		return new Genome(karyotype, compound);
+		return Genome.create(karyotype, compound);
 	}
 
 	@Override
 	public IGenome createGenome(IKaryotype karyotype, IChromosome[] chromosomes) {
-		return new Genome(karyotype, chromosomes);
+		return Genome.create(karyotype, chromosomes);
 	}
 
 	@Override
@@ -29,9 +29,11 @@ import genetics.api.organism.IOrganism;
 import genetics.api.root.IRootDefinition;
 import genetics.api.root.components.DefaultStage;
 import genetics.commands.CommandListAlleles;
+import genetics.commands.CommandOrganismCache;
 import genetics.individual.GeneticSaveHandler;
 import genetics.individual.SaveFormat;
 import genetics.plugins.PluginManager;
+import genetics.root.IndividualRootHelper;
 
 @Mod(Genetics.MOD_ID)
 public class Genetics {
@@ -91,12 +93,14 @@ public class Genetics {
 			definition.get().getComponentContainer().onStage(DefaultStage.COMPLETION);
 		}
 		GeneticSaveHandler.setWriteFormat(SaveFormat.BINARY);
+		IndividualRootHelper.INSTANCE.enableItemLookup();
 	}
 
 	public void registerCommands(RegisterCommandsEvent event) {
 		CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
 		LiteralArgumentBuilder<CommandSourceStack> rootCommand = LiteralArgumentBuilder.literal("genetics");
 		rootCommand.then(CommandListAlleles.register());
+		rootCommand.then(CommandOrganismCache.register());
 		dispatcher.register(rootCommand);
 	}
 }
@@ -0,0 +1,28 @@
+package genetics.commands;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+
+import genetics.organism.Organism;
+
+/**
+ * Prints how often the individual of an organism was served from its cache.
+ */
+public class CommandOrganismCache {
+
+	public static ArgumentBuilder<CommandSourceStack, ?> register() {
+		return Commands.literal("organismCache").requires(PermLevel.ADMIN).executes(CommandOrganismCache::execute);
+	}
+
+	public static int execute(CommandContext<CommandSourceStack> context) {
+		long hits = Organism.getCacheHits();
+		long misses = Organism.getCacheMisses();
+		long total = hits + misses;
+		double hitRate = total == 0 ? 0 : hits * 100.0 / total;
+		CommandHelpers.sendChatMessage(context.getSource(), String.format("Organism individual cache: %d hits, %d misses (%.1f%% hit rate)", hits, misses, hitRate));
+		return 1;
+	}
+}
@@ -2,6 +2,7 @@ package genetics.individual;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 
@@ -51,7 +52,7 @@ public class Chromosome implements IChromosome {
 		firstAllele = validateAllele(primaryTemplateIdentifier, type, firstAllele);
 		secondAllele = validateAllele(secondaryTemplateIdentifier, type, secondAllele);
 
-		return new Chromosome(firstAllele, secondAllele, type);
+		return GeneticInterner.intern(new Chromosome(firstAllele, secondAllele, type));
 	}
 
 	@Nullable
@@ -80,7 +81,7 @@ public class Chromosome implements IChromosome {
 	}
 
 	public static Chromosome create(IAllele allele, IChromosomeType geneType) {
-		return new Chromosome(allele, geneType);
+		return GeneticInterner.intern(new Chromosome(allele, geneType));
 	}
 
 	static Optional<IAllele> getActiveAllele(CompoundTag chromosomeNBT) {
@@ -115,6 +116,9 @@ public class Chromosome implements IChromosome {
 
 	@Override
 	public boolean isGeneticEqual(IChromosome other) {
+		if (other == this) {
+			return true;
+		}
 		if (!active.equals(other.getActiveAllele())) {
 			return false;
 		}
@@ -154,7 +158,7 @@ public class Chromosome implements IChromosome {
 	public static Chromosome create(IAllele firstAllele, IAllele secondAllele, IChromosomeType geneType) {
 		firstAllele = getActiveAllele(firstAllele, secondAllele);
 		secondAllele = getInactiveAllele(firstAllele, secondAllele);
-		return new Chromosome(firstAllele, secondAllele, geneType);
+		return GeneticInterner.intern(new Chromosome(firstAllele, secondAllele, geneType));
 	}
 
 	private static IAllele getActiveAllele(IAllele firstAllele, IAllele secondAllele) {
@@ -179,6 +183,22 @@ public class Chromosome implements IChromosome {
 		return secondAllele;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof Chromosome other)) {
+			return false;
+		}
+		return type.equals(other.type) && active.equals(other.active) && inactive.equals(other.inactive);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, active, inactive);
+	}
+
 	@Override
 	public String toString() {
 		return "{" + active + ", " + inactive + "}";
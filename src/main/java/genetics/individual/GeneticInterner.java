@@ -0,0 +1,32 @@
+package genetics.individual;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Canonicalizes {@link Chromosome}s and {@link Genome}s, so genetically identical individuals like the leaves of one
+ * tree or the drones of a stack share the same instances.
+ * <p>
+ * The interners only hold weak references, so instances that are no longer used by any individual can be collected.
+ */
+public final class GeneticInterner {
+	private static final Interner<Chromosome> CHROMOSOMES = Interners.newWeakInterner();
+	private static final Interner<Genome> GENOMES = Interners.newWeakInterner();
+
+	private GeneticInterner() {
+	}
+
+	/**
+	 * @return The canonical instance of the given chromosome.
+	 */
+	public static Chromosome intern(Chromosome chromosome) {
+		return CHROMOSOMES.intern(chromosome);
+	}
+
+	/**
+	 * @return The canonical instance of the given genome.
+	 */
+	public static Genome intern(Genome genome) {
+		return GENOMES.intern(genome);
+	}
+}
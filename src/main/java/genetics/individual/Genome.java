@@ -26,16 +26,34 @@ import genetics.utils.AlleleUtils;
 public final class Genome implements IGenome {
 	private final IChromosome[] chromosomes;
 	private final IKaryotype karyotype;
+	private final int hashCode;
 
 	public Genome(IKaryotype karyotype, CompoundTag compound) {
 		this.karyotype = karyotype;
 		this.chromosomes = GeneticSaveHandler.INSTANCE.readTag(karyotype, compound);
+		this.hashCode = 31 * karyotype.hashCode() + Arrays.hashCode(chromosomes);
 	}
 
 	public Genome(IKaryotype karyotype, IChromosome[] chromosomes) {
 		this.karyotype = karyotype;
 		checkChromosomes(chromosomes);
-		this.chromosomes = chromosomes;
+		// Copied because the genome may be shared by many individuals once it is interned
+		this.chromosomes = Arrays.copyOf(chromosomes, chromosomes.length);
+		this.hashCode = 31 * karyotype.hashCode() + Arrays.hashCode(this.chromosomes);
+	}
+
+	/**
+	 * @return The canonical genome that is saved in the given tag, see {@link GeneticInterner}.
+	 */
+	public static Genome create(IKaryotype karyotype, CompoundTag compound) {
+		return GeneticInterner.intern(new Genome(karyotype, compound));
+	}
+
+	/**
+	 * @return The canonical genome that contains the given chromosomes, see {@link GeneticInterner}.
+	 */
+	public static Genome create(IKaryotype karyotype, IChromosome[] chromosomes) {
+		return GeneticInterner.intern(new Genome(karyotype, chromosomes));
 	}
 
 	@SuppressWarnings("all")
@@ -352,6 +370,9 @@ public final class Genome implements IGenome {
 
 	@Override
 	public boolean isGeneticEqual(IGenome other) {
+		if (other == this) {
+			return true;
+		}
 		IChromosome[] otherChromosomes = other.getChromosomes();
 		if (chromosomes.length != otherChromosomes.length) {
 			return false;
@@ -375,6 +396,22 @@ public final class Genome implements IGenome {
 		return true;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof Genome other) || hashCode != other.hashCode) {
+			return false;
+		}
+		return karyotype.equals(other.karyotype) && Arrays.equals(chromosomes, other.chromosomes);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public String toString() {
 		MoreObjects.ToStringHelper toStringHelper = MoreObjects.toStringHelper(this);
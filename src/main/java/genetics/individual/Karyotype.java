@@ -108,6 +108,6 @@ public class Karyotype implements IKaryotype {
 
 	@Override
 	public IGenome templateAsGenome(IAllele[] templateActive, @Nullable IAllele[] templateInactive) {
-		return new Genome(this, templateAsChromosomes(templateActive, templateInactive));
+		return Genome.create(this, templateAsChromosomes(templateActive, templateInactive));
 	}
 }
@@ -13,6 +13,9 @@ import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IKaryotype;
 import genetics.utils.SimpleByteBuf;
 
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+
 public enum SaveFormat {
 	//Used before forge fires the FMLLoadCompleteEvent.
 	UID {
@@ -202,13 +205,88 @@ public enum SaveFormat {
 		public boolean canLoad(CompoundTag tagCompound) {
 			return tagCompound.contains(DATA_TAG);
 		}
+	},
+	//Used to read genomes that were saved with every chromosome as one int that contains the ids of both alleles as
+	//shorts. Not written anymore, since BINARY already saves the allele ids as varints, which is more compact.
+	PALETTE {
+		private static final String ALLELES_TAG = "Alleles";
+
+		@Override
+		public CompoundTag writeTag(IChromosome[] chromosomes, IKaryotype karyotype, CompoundTag tagCompound) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		IChromosome[] readTag(IKaryotype karyotype, CompoundTag tagCompound) {
+			int[] alleles = tagCompound.getIntArray(ALLELES_TAG);
+			IChromosomeType[] types = karyotype.getChromosomeTypes();
+			IChromosome[] chromosomes = new IChromosome[types.length];
+
+			Chromosome speciesChromosome = readChromosome(alleles, karyotype.getSpeciesType(), null, null);
+			ResourceLocation primaryTemplateIdentifier = speciesChromosome.getActiveAllele().getRegistryName();
+			ResourceLocation secondaryTemplateIdentifier = speciesChromosome.getInactiveAllele().getRegistryName();
+			for (IChromosomeType type : types) {
+				if (type.equals(karyotype.getSpeciesType())) {
+					chromosomes[type.getIndex()] = speciesChromosome;
+				} else {
+					chromosomes[type.getIndex()] = readChromosome(alleles, type, primaryTemplateIdentifier, secondaryTemplateIdentifier);
+				}
+			}
+			return chromosomes;
+		}
+
+		@Nullable
+		@Override
+		IAllele getAlleleDirectly(CompoundTag genomeNBT, IChromosomeType geneType, boolean active) {
+			int[] alleles = genomeNBT.getIntArray(ALLELES_TAG);
+			int index = geneType.getIndex();
+			if (index >= alleles.length) {
+				return null;
+			}
+			return getAllele(active ? alleles[index] >>> 16 : alleles[index] & NO_ALLELE);
+		}
+
+		@Override
+		public IChromosome getSpecificChromosome(CompoundTag genomeNBT, IChromosomeType geneType) {
+			int[] alleles = genomeNBT.getIntArray(ALLELES_TAG);
+			IKaryotype karyotype = geneType.getRoot().getKaryotype();
+			Chromosome speciesChromosome = readChromosome(alleles, karyotype.getSpeciesType(), null, null);
+			if (geneType.equals(karyotype.getSpeciesType())) {
+				return speciesChromosome;
+			}
+			return readChromosome(alleles, geneType, speciesChromosome.getActiveAllele().getRegistryName(), speciesChromosome.getInactiveAllele().getRegistryName());
+		}
+
+		private Chromosome readChromosome(int[] alleles, IChromosomeType type, @Nullable ResourceLocation activeSpeciesUid, @Nullable ResourceLocation inactiveSpeciesUid) {
+			int index = type.getIndex();
+			int packedAlleles = index < alleles.length ? alleles[index] : NO_ALLELES;
+			return Chromosome.create(activeSpeciesUid, inactiveSpeciesUid, type, getAllele(packedAlleles >>> 16), getAllele(packedAlleles & NO_ALLELE));
+		}
+
+		@Override
+		public boolean canLoad(CompoundTag tagCompound) {
+			return tagCompound.contains(ALLELES_TAG, Tag.TAG_INT_ARRAY);
+		}
 	};
 
+	//Marks a missing allele in the PALETTE format
+	private static final int NO_ALLELE = 0xFFFF;
+	private static final int NO_ALLELES = NO_ALLELE << 16 | NO_ALLELE;
+
 	private static final String VERSION_TAG = "version";
 	private static final String SLOT_TAG = "Slot";
 	private static final int VERSION = 1;
 	private static final String CHROMOSOMES_TAG = "Chromosomes";
 
+	@Nullable
+	private static IAllele getAllele(int id) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null || id == NO_ALLELE) {
+			return null;
+		}
+		return registry.getAllele(id);
+	}
+
 	abstract CompoundTag writeTag(IChromosome[] chromosomes, IKaryotype karyotype, CompoundTag tagCompound);
 
 	abstract IChromosome[] readTag(IKaryotype karyotype, CompoundTag tagCompound);
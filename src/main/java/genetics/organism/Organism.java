@@ -3,8 +3,10 @@ package genetics.organism;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.core.Direction;
 
@@ -25,10 +27,15 @@ import genetics.api.root.IRootDefinition;
 import genetics.individual.GeneticSaveHandler;
 
 public class Organism<I extends IIndividual> implements IOrganism<I> {
+	private static final LongAdder cacheHits = new LongAdder();
+	private static final LongAdder cacheMisses = new LongAdder();
+
 	private final LazyOptional<IOrganism> holder = LazyOptional.of(() -> this);
 	private final ItemStack container;
 	private final IRootDefinition<? extends IIndividualRoot<I>> definition;
 	private final Supplier<IOrganismType> typeSupplier;
+	@Nullable
+	private CachedIndividual<I> cachedIndividual;
 
 	public Organism(ItemStack container, IRootDefinition<? extends IIndividualRoot<I>> geneticDefinitionSupplier, Supplier<IOrganismType> typeSupplier) {
 		this.container = container;
@@ -36,14 +43,39 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 		this.typeSupplier = typeSupplier;
 	}
 
+	/**
+	 * Returns the individual of the stack. The individual is only decoded again if the tag of the stack has been
+	 * replaced or its content has changed, so changes to the returned individual have to be written back with
+	 * {@link #setIndividual(IIndividual)}.
+	 */
 	@Override
 	public Optional<I> getIndividual() {
-		return getDefinition().get().getTypes().createIndividual(container);
+		CompoundTag tag = container.getTag();
+		int tagHash = tag == null ? 0 : tag.hashCode();
+		CachedIndividual<I> cached = cachedIndividual;
+		if (cached != null && cached.tag == tag && cached.tagHash == tagHash) {
+			cacheHits.increment();
+			return cached.individual;
+		}
+		cacheMisses.increment();
+		Optional<I> individual = getDefinition().get().getTypes().createIndividual(container);
+		cachedIndividual = new CachedIndividual<>(tag, tagHash, individual);
+		return individual;
 	}
 
 	@Override
 	public boolean setIndividual(I individual) {
-		return getDefinition().get().getTypes().setIndividual(container, individual);
+		boolean changed = getDefinition().get().getTypes().setIndividual(container, individual);
+		cachedIndividual = null;
+		return changed;
+	}
+
+	public static long getCacheHits() {
+		return cacheHits.sum();
+	}
+
+	public static long getCacheMisses() {
+		return cacheMisses.sum();
 	}
 
 	@Override
@@ -95,6 +127,9 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 		return Optional.ofNullable(GeneticSaveHandler.INSTANCE.getAlleleDirectly(container, getType(), type, active));
 	}
 
+	private record CachedIndividual<I extends IIndividual>(@Nullable CompoundTag tag, int tagHash, Optional<I> individual) {
+	}
+
 	@Override
 	public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction facing) {
 		return Genetics.ORGANISM.orEmpty(cap, holder);
@@ -1,8 +1,14 @@
 package genetics.root;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 
 import genetics.api.GeneticHelper;
@@ -14,10 +20,47 @@ import genetics.api.root.EmptyRootDefinition;
 import genetics.api.root.IIndividualRoot;
 import genetics.api.root.IIndividualRootHelper;
 import genetics.api.root.IRootDefinition;
+import genetics.api.root.IndividualRoot;
 
 public enum IndividualRootHelper implements IIndividualRootHelper {
 	INSTANCE;
 
+	// Roots whose membership only depends on the item of the stack
+	private final List<IRootDefinition> itemRoots = new ArrayList<>();
+	// Roots that override IIndividualRoot#isMember and may look at the NBT of the stack
+	private final List<IRootDefinition> stackRoots = new ArrayList<>();
+	private final Map<Item, List<IRootDefinition>> rootsByItem = new ConcurrentHashMap<>();
+	private volatile boolean itemLookupEnabled = false;
+
+	/**
+	 * Enables the item to root lookup of {@link #getSpeciesRoot(ItemStack, Class)}. Called after all roots have been
+	 * registered and completed.
+	 */
+	public void enableItemLookup() {
+		itemRoots.clear();
+		stackRoots.clear();
+		rootsByItem.clear();
+		for (IRootDefinition definition : GeneticsAPI.apiInstance.getRoots().values()) {
+			if (!definition.isPresent()) {
+				continue;
+			}
+			if (isItemBased(definition.get())) {
+				itemRoots.add(definition);
+			} else {
+				stackRoots.add(definition);
+			}
+		}
+		itemLookupEnabled = true;
+	}
+
+	private static boolean isItemBased(IIndividualRoot<?> root) {
+		try {
+			return root.getClass().getMethod("isMember", ItemStack.class).getDeclaringClass() == IndividualRoot.class;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <R extends IIndividualRoot> IRootDefinition<R> getSpeciesRoot(ItemStack stack) {
@@ -31,8 +74,36 @@ public enum IndividualRootHelper implements IIndividualRootHelper {
 			return EmptyRootDefinition.empty();
 		}
 
-		Map<String, IRootDefinition> definitions = GeneticsAPI.apiInstance.getRoots();
-		for (IRootDefinition definition : definitions.values()) {
+		if (itemLookupEnabled) {
+			List<IRootDefinition> roots = rootsByItem.get(stack.getItem());
+			if (roots == null) {
+				roots = getItemRoots(stack);
+				rootsByItem.put(stack.getItem(), roots);
+			}
+			for (IRootDefinition definition : roots) {
+				if (rootClass.isInstance(definition.get())) {
+					return (IRootDefinition<R>) definition;
+				}
+			}
+			return getSpeciesRoot(stack, rootClass, stackRoots);
+		}
+
+		return getSpeciesRoot(stack, rootClass, GeneticsAPI.apiInstance.getRoots().values());
+	}
+
+	private List<IRootDefinition> getItemRoots(ItemStack stack) {
+		List<IRootDefinition> roots = new ArrayList<>(1);
+		for (IRootDefinition definition : itemRoots) {
+			if (definition.get().isMember(stack)) {
+				roots.add(definition);
+			}
+		}
+		return roots.isEmpty() ? Collections.emptyList() : roots;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R extends IIndividualRoot> IRootDefinition<R> getSpeciesRoot(ItemStack stack, Class<? extends R> rootClass, Collection<IRootDefinition> definitions) {
+		for (IRootDefinition definition : definitions) {
 			if (!definition.isPresent()) {
 				continue;
 			}
@@ -1,10 +1,12 @@
 package genetics.root;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.resources.ResourceLocation;
 
@@ -23,8 +25,11 @@ import genetics.utils.AlleleUtils;
 
 public class MutationContainer<I extends IIndividual, M extends IMutation> implements IMutationContainer<I, M> {
 
-	private final List<M> mutations = new LinkedList<>();
+	private final List<M> mutations = new ArrayList<>();
 	private final IIndividualRoot<I> root;
+	// Unordered parent species pair > mutations of the pair. Built on the first lookup after the last registration.
+	@Nullable
+	private volatile Map<ParentPair, List<M>> parentIndex;
 
 	public MutationContainer(IIndividualRoot<I> root) {
 		this.root = root;
@@ -47,15 +52,22 @@ public class MutationContainer<I extends IIndividual, M extends IMutation> imple
 			return false;
 		}
 		mutations.add(mutation);
+		parentIndex = null;
 		return true;
 	}
 
+	/**
+	 * @return All registered mutations. If shuffle is true a shuffled copy is returned, the registered list is never
+	 * modified.
+	 */
 	@Override
 	public List<M> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(mutations);
+			List<M> shuffled = new ArrayList<>(mutations);
+			Collections.shuffle(shuffled);
+			return shuffled;
 		}
-		return mutations;
+		return Collections.unmodifiableList(mutations);
 	}
 
 	@Override
@@ -91,19 +103,34 @@ public class MutationContainer<I extends IIndividual, M extends IMutation> imple
 
 	@Override
 	public List<M> getCombinations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, boolean shuffle) {
-		List<M> combinations = new ArrayList<>();
+		List<M> combinations = getParentIndex().get(ParentPair.of(parentFirst, parentSecond));
+		if (combinations == null) {
+			return Collections.emptyList();
+		}
+
+		List<M> copy = new ArrayList<>(combinations);
+		if (shuffle) {
+			Collections.shuffle(copy);
+		}
+		return copy;
+	}
 
-		ResourceLocation parentSpecies = parentSecond.getRegistryName();
-		for (M mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentFirst)) {
-				IAllele partner = mutation.getPartner(parentFirst);
-				if (partner.getRegistryName().equals(parentSpecies)) {
-					combinations.add(mutation);
+	private Map<ParentPair, List<M>> getParentIndex() {
+		Map<ParentPair, List<M>> index = parentIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = parentIndex;
+				if (index == null) {
+					index = new HashMap<>();
+					for (M mutation : mutations) {
+						ParentPair pair = ParentPair.of(mutation.getFirstParent(), mutation.getSecondParent());
+						index.computeIfAbsent(pair, key -> new ArrayList<>()).add(mutation);
+					}
+					parentIndex = index;
 				}
 			}
 		}
-
-		return combinations;
+		return index;
 	}
 
 	@Override
@@ -124,4 +151,18 @@ public class MutationContainer<I extends IIndividual, M extends IMutation> imple
 	public ComponentKey<IMutationContainer> getKey() {
 		return ComponentKeys.MUTATIONS;
 	}
+
+	/**
+	 * The registry names of two parent species, independent of their order.
+	 */
+	private record ParentPair(ResourceLocation first, ResourceLocation second) {
+		private static ParentPair of(IAllele first, IAllele second) {
+			ResourceLocation firstName = first.getRegistryName();
+			ResourceLocation secondName = second.getRegistryName();
+			if (firstName.compareTo(secondName) <= 0) {
+				return new ParentPair(firstName, secondName);
+			}
+			return new ParentPair(secondName, firstName);
+		}
+	}
 }
@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 
 import net.minecraft.resources.ResourceLocation;
 
+import genetics.alleles.AlleleRegistry;
 import genetics.api.GeneticsAPI;
 import genetics.api.alleles.IAllele;
 import genetics.api.alleles.IAlleleValue;
@@ -89,6 +90,28 @@ public class AlleleUtils {
 		return alleleAction.apply(castedAllele);
 	}
 
+	/**
+	 * @return The numeric id of the allele in the allele registry, or -1 if it is not registered.
+	 * The ids are synced to the clients with the other registries, so they can be used in network packets.
+	 */
+	public static int getId(IAllele allele) {
+		if (!(GeneticsAPI.apiInstance.getAlleleRegistry() instanceof AlleleRegistry registry)) {
+			return -1;
+		}
+		return registry.getId(allele);
+	}
+
+	/**
+	 * @return The allele with the given numeric id, see {@link #getId(IAllele)}.
+	 */
+	@Nullable
+	public static IAllele getAllele(int id) {
+		if (id < 0 || !(GeneticsAPI.apiInstance.getAlleleRegistry() instanceof AlleleRegistry registry)) {
+			return null;
+		}
+		return registry.getAllele(id);
+	}
+
 	public static Collection<ResourceLocation> getRegisteredNames() {
 		return GeneticsAPI.apiInstance.getAlleleRegistry().getRegisteredNames();
 	}